@@ -0,0 +1,26 @@
+package com.algaworks.ordering.domain.diagnostic;
+
+import com.algaworks.ordering.domain.valueobject.CustomerId;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+@Name(CustomerArchiveJfrEvent.NAME)
+@Label("Customer Archive")
+@Threshold("0 ms")
+public class CustomerArchiveJfrEvent extends DomainOperationJfrEvent {
+
+    public static final String NAME = "com.algaworks.ordering.CustomerArchive";
+
+    @Label("Customer Id")
+    protected String customerId;
+
+    public void complete(CustomerId customerId, Throwable failure) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.customerId = customerId.toString();
+        outcome(failure);
+        commit();
+    }
+}
@@ -0,0 +1,30 @@
+package com.algaworks.ordering.domain.diagnostic;
+
+import com.algaworks.ordering.domain.valueobject.CustomerId;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+@Name(CustomerMutationJfrEvent.NAME)
+@Label("Customer Mutation")
+@Threshold("0 ms")
+public class CustomerMutationJfrEvent extends DomainOperationJfrEvent {
+
+    public static final String NAME = "com.algaworks.ordering.CustomerMutation";
+
+    @Label("Customer Id")
+    protected String customerId;
+
+    @Label("Operation")
+    protected String operation;
+
+    public void complete(CustomerId customerId, String operation, Throwable failure) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.customerId = customerId.toString();
+        this.operation = operation;
+        outcome(failure);
+        commit();
+    }
+}
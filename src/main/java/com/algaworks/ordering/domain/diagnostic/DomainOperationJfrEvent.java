@@ -0,0 +1,46 @@
+package com.algaworks.ordering.domain.diagnostic;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base of the Flight Recorder events emitted by the domain.
+ * <p>
+ * Callers {@link #begin()} before the operation and call the subclass {@code complete}
+ * method from a {@code finally} block once it ends, passing any {@link Throwable} it
+ * threw. Fields are only filled in when {@link #shouldCommit()} holds, so a disabled
+ * event or one below its threshold costs no more than the timestamp it took. Keep the
+ * event a local of the instrumented method: escape analysis then removes a disabled
+ * event's allocation entirely.
+ * <p>
+ * The category and stack-trace settings declared here are inherited by every subclass.
+ */
+@Category({"AlgaShop", "Ordering"})
+@StackTrace(false)
+public abstract class DomainOperationJfrEvent extends Event {
+
+    public static final String SUCCESS = "SUCCESS";
+    public static final String FAILURE = "FAILURE";
+
+    @Label("Outcome")
+    protected String outcome;
+
+    @Label("Failure Reason")
+    @Description("Exception type and message of a failed operation")
+    protected String failureReason;
+
+    protected void outcome(Throwable failure) {
+        if (failure == null) {
+            this.outcome = SUCCESS;
+            return;
+        }
+
+        this.outcome = FAILURE;
+        this.failureReason = failure.getMessage() == null
+                ? failure.getClass().getSimpleName()
+                : failure.getClass().getSimpleName() + ": " + failure.getMessage();
+    }
+}
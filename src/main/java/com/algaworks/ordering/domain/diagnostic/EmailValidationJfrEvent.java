@@ -0,0 +1,24 @@
+package com.algaworks.ordering.domain.diagnostic;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * The address itself is not recorded, to keep personal data out of recordings.
+ */
+@Name(EmailValidationJfrEvent.NAME)
+@Label("Email Validation")
+@Threshold("1 ms")
+public class EmailValidationJfrEvent extends DomainOperationJfrEvent {
+
+    public static final String NAME = "com.algaworks.ordering.EmailValidation";
+
+    public void complete(Throwable failure) {
+        if (!shouldCommit()) {
+            return;
+        }
+        outcome(failure);
+        commit();
+    }
+}
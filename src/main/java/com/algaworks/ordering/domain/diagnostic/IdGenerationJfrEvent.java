@@ -0,0 +1,21 @@
+package com.algaworks.ordering.domain.diagnostic;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+@Name(IdGenerationJfrEvent.NAME)
+@Label("Id Generation")
+@Threshold("1 ms")
+public class IdGenerationJfrEvent extends DomainOperationJfrEvent {
+
+    public static final String NAME = "com.algaworks.ordering.IdGeneration";
+
+    public void complete(Throwable failure) {
+        if (!shouldCommit()) {
+            return;
+        }
+        outcome(failure);
+        commit();
+    }
+}
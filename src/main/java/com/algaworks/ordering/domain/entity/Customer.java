@@ -1,10 +1,16 @@
 package com.algaworks.ordering.domain.entity;
 
+import com.algaworks.ordering.domain.diagnostic.CustomerArchiveJfrEvent;
+import com.algaworks.ordering.domain.diagnostic.CustomerMutationJfrEvent;
+import com.algaworks.ordering.domain.diagnostic.CustomerRegistrationJfrEvent;
+import com.algaworks.ordering.domain.event.*;
 import com.algaworks.ordering.domain.exception.CustomerArchivedException;
 import com.algaworks.ordering.domain.valueobject.*;
 import lombok.Builder;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -26,6 +32,8 @@ public class Customer {
     private LoyaltyPoints loyaltyPoints;
     private Address address;
 
+    private final List<CustomerEvent> domainEvents = new ArrayList<>();
+
     @Builder(builderClassName = "BrandNewCustomerBuild", builderMethodName = "brandNew")
     private static Customer createBrandNew(
             FullName fullName,
@@ -36,20 +44,33 @@ public class Customer {
             Boolean promotionNotificationsAllowed,
             Address address
     ) {
-        return new Customer(
-                new CustomerId(),
-                fullName,
-                birthDate,
-                email,
-                phone,
-                document,
-                promotionNotificationsAllowed,
-                false,
-                OffsetDateTime.now(),
-                null,
-                LoyaltyPoints.ZERO,
-                address
-        );
+        CustomerRegistrationJfrEvent jfrEvent = new CustomerRegistrationJfrEvent();
+        jfrEvent.begin();
+        CustomerId id = new CustomerId();
+        Throwable failure = null;
+        try {
+            Customer customer = new Customer(
+                    id,
+                    fullName,
+                    birthDate,
+                    email,
+                    phone,
+                    document,
+                    promotionNotificationsAllowed,
+                    false,
+                    OffsetDateTime.now(),
+                    null,
+                    LoyaltyPoints.ZERO,
+                    address
+            );
+            customer.registerEvent(new CustomerRegisteredEvent(customer.id(), customer.fullName(), customer.email()));
+            return customer;
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            jfrEvent.complete(id, failure);
+        }
     }
 
     @Builder(builderClassName = "ExistingCustomerBuild", builderMethodName = "existing")
@@ -99,51 +120,142 @@ public class Customer {
     }
 
     public void addLoyaltyPoints(LoyaltyPoints loyalPointsAdded) {
-        verifyIfChangeable();
-        this.setLoyaltyPoints(this.loyaltyPoints().add(loyalPointsAdded));
+        CustomerMutationJfrEvent jfrEvent = new CustomerMutationJfrEvent();
+        jfrEvent.begin();
+        Throwable failure = null;
+        try {
+            verifyIfChangeable();
+            LoyaltyPoints totalPoints = this.loyaltyPoints().add(loyalPointsAdded);
+            CustomerLoyaltyPointsAddedEvent event = new CustomerLoyaltyPointsAddedEvent(this.id(), loyalPointsAdded, totalPoints);
+            this.setLoyaltyPoints(totalPoints);
+            this.registerEvent(event);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            jfrEvent.complete(this.id(), "addLoyaltyPoints", failure);
+        }
     }
 
     public void archive() {
-        verifyIfChangeable();
-        this.setArchived(true);
-        this.setArchivedAt(OffsetDateTime.now());
-        this.setFullName(new FullName("Anonymous", "Anonymous"));
-        this.setPhone(new Phone("000-000-0000"));
-        this.setDocument(new Document("000-00-0000"));
-        this.setEmail(new Email(UUID.randomUUID() + "@anonymous.com"));
-        this.setBirthDate(null);
-        this.setPromotionNotificationsAllowed(false);
-        this.setAddress(this.address.toBuilder().number("Anonymized").complement(null).build());
+        CustomerArchiveJfrEvent jfrEvent = new CustomerArchiveJfrEvent();
+        jfrEvent.begin();
+        Throwable failure = null;
+        try {
+            verifyIfChangeable();
+            CustomerArchivedEvent event = new CustomerArchivedEvent(this.id());
+            this.setArchived(true);
+            this.setArchivedAt(OffsetDateTime.now());
+            this.setFullName(new FullName("Anonymous", "Anonymous"));
+            this.setPhone(new Phone("000-000-0000"));
+            this.setDocument(new Document("000-00-0000"));
+            this.setEmail(new Email(UUID.randomUUID() + "@anonymous.com"));
+            this.setBirthDate(null);
+            this.setPromotionNotificationsAllowed(false);
+            this.setAddress(this.address.toBuilder().number("Anonymized").complement(null).build());
+            this.registerEvent(event);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            jfrEvent.complete(this.id(), failure);
+        }
     }
 
     public void enablePromotionNotifications() {
-        verifyIfChangeable();
-        this.setPromotionNotificationsAllowed(true);
+        CustomerMutationJfrEvent jfrEvent = new CustomerMutationJfrEvent();
+        jfrEvent.begin();
+        Throwable failure = null;
+        try {
+            verifyIfChangeable();
+            this.setPromotionNotificationsAllowed(true);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            jfrEvent.complete(this.id(), "enablePromotionNotifications", failure);
+        }
     }
 
     public void disablePromotionNotifications() {
-        verifyIfChangeable();
-        this.setPromotionNotificationsAllowed(false);
+        CustomerMutationJfrEvent jfrEvent = new CustomerMutationJfrEvent();
+        jfrEvent.begin();
+        Throwable failure = null;
+        try {
+            verifyIfChangeable();
+            this.setPromotionNotificationsAllowed(false);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            jfrEvent.complete(this.id(), "disablePromotionNotifications", failure);
+        }
     }
 
     public void changeName(FullName fullName) {
-        verifyIfChangeable();
-        this.setFullName(fullName);
+        CustomerMutationJfrEvent jfrEvent = new CustomerMutationJfrEvent();
+        jfrEvent.begin();
+        Throwable failure = null;
+        try {
+            verifyIfChangeable();
+            this.setFullName(fullName);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            jfrEvent.complete(this.id(), "changeName", failure);
+        }
     }
 
     public void changeEmail(Email email) {
-        verifyIfChangeable();
-        this.setEmail(email);
+        CustomerMutationJfrEvent jfrEvent = new CustomerMutationJfrEvent();
+        jfrEvent.begin();
+        Throwable failure = null;
+        try {
+            verifyIfChangeable();
+            CustomerEmailChangedEvent event = new CustomerEmailChangedEvent(this.id(), email);
+            this.setEmail(email);
+            this.registerEvent(event);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            jfrEvent.complete(this.id(), "changeEmail", failure);
+        }
     }
 
     public void changePhone(Phone phone) {
-        verifyIfChangeable();
-        this.setPhone(phone);
+        CustomerMutationJfrEvent jfrEvent = new CustomerMutationJfrEvent();
+        jfrEvent.begin();
+        Throwable failure = null;
+        try {
+            verifyIfChangeable();
+            CustomerPhoneChangedEvent event = new CustomerPhoneChangedEvent(this.id(), phone);
+            this.setPhone(phone);
+            this.registerEvent(event);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            jfrEvent.complete(this.id(), "changePhone", failure);
+        }
     }
 
     public void changeAddress(Address address) {
-        verifyIfChangeable();
-        this.setAddress(address);
+        CustomerMutationJfrEvent jfrEvent = new CustomerMutationJfrEvent();
+        jfrEvent.begin();
+        Throwable failure = null;
+        try {
+            verifyIfChangeable();
+            CustomerAddressChangedEvent event = new CustomerAddressChangedEvent(this.id(), address);
+            this.setAddress(address);
+            this.registerEvent(event);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            jfrEvent.complete(this.id(), "changeAddress", failure);
+        }
     }
 
     public CustomerId id() {
@@ -194,6 +306,14 @@ public class Customer {
         return address;
     }
 
+    public List<CustomerEvent> domainEvents() {
+        return List.copyOf(domainEvents);
+    }
+
+    public void clearDomainEvents() {
+        this.domainEvents.clear();
+    }
+
     private void setId(CustomerId id) {
         Objects.requireNonNull(id);
         this.id = id;
@@ -254,6 +374,10 @@ public class Customer {
         this.address = address;
     }
 
+    private void registerEvent(CustomerEvent event) {
+        this.domainEvents.add(event);
+    }
+
     private void verifyIfChangeable() {
         if (Boolean.TRUE.equals(this.isArchived())) {
             throw new CustomerArchivedException();
@@ -0,0 +1,23 @@
+package com.algaworks.ordering.domain.event;
+
+import com.algaworks.ordering.domain.utility.IdGenerator;
+import com.algaworks.ordering.domain.valueobject.Address;
+import com.algaworks.ordering.domain.valueobject.CustomerId;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+public record CustomerAddressChangedEvent(UUID eventId, CustomerId customerId, OffsetDateTime occurredAt, Address address) implements CustomerEvent {
+
+    public CustomerAddressChangedEvent {
+        Objects.requireNonNull(eventId);
+        Objects.requireNonNull(customerId);
+        Objects.requireNonNull(occurredAt);
+        Objects.requireNonNull(address);
+    }
+
+    public CustomerAddressChangedEvent(CustomerId customerId, Address address) {
+        this(IdGenerator.generateTimeBasedUUID(), customerId, OffsetDateTime.now(), address);
+    }
+}
@@ -0,0 +1,21 @@
+package com.algaworks.ordering.domain.event;
+
+import com.algaworks.ordering.domain.utility.IdGenerator;
+import com.algaworks.ordering.domain.valueobject.CustomerId;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+public record CustomerArchivedEvent(UUID eventId, CustomerId customerId, OffsetDateTime occurredAt) implements CustomerEvent {
+
+    public CustomerArchivedEvent {
+        Objects.requireNonNull(eventId);
+        Objects.requireNonNull(customerId);
+        Objects.requireNonNull(occurredAt);
+    }
+
+    public CustomerArchivedEvent(CustomerId customerId) {
+        this(IdGenerator.generateTimeBasedUUID(), customerId, OffsetDateTime.now());
+    }
+}
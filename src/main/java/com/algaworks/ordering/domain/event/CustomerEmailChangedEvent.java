@@ -0,0 +1,22 @@
+package com.algaworks.ordering.domain.event;
+
+import com.algaworks.ordering.domain.utility.IdGenerator;
+import com.algaworks.ordering.domain.valueobject.CustomerId;
+import com.algaworks.ordering.domain.valueobject.Email;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+public record CustomerEmailChangedEvent(UUID eventId, CustomerId customerId, OffsetDateTime occurredAt, Email email) implements CustomerEvent {
+
+    public CustomerEmailChangedEvent {
+        Objects.requireNonNull(eventId);
+        Objects.requireNonNull(customerId);
+        Objects.requireNonNull(occurredAt);
+    }
+
+    public CustomerEmailChangedEvent(CustomerId customerId, Email email) {
+        this(IdGenerator.generateTimeBasedUUID(), customerId, OffsetDateTime.now(), email);
+    }
+}
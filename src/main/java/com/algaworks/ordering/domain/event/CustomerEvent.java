@@ -0,0 +1,15 @@
+package com.algaworks.ordering.domain.event;
+
+import com.algaworks.ordering.domain.valueobject.CustomerId;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public interface CustomerEvent {
+
+    UUID eventId();
+
+    CustomerId customerId();
+
+    OffsetDateTime occurredAt();
+}
@@ -0,0 +1,24 @@
+package com.algaworks.ordering.domain.event;
+
+import com.algaworks.ordering.domain.utility.IdGenerator;
+import com.algaworks.ordering.domain.valueobject.CustomerId;
+import com.algaworks.ordering.domain.valueobject.LoyaltyPoints;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+public record CustomerLoyaltyPointsAddedEvent(UUID eventId, CustomerId customerId, OffsetDateTime occurredAt, LoyaltyPoints pointsAdded, LoyaltyPoints totalPoints) implements CustomerEvent {
+
+    public CustomerLoyaltyPointsAddedEvent {
+        Objects.requireNonNull(eventId);
+        Objects.requireNonNull(customerId);
+        Objects.requireNonNull(occurredAt);
+        Objects.requireNonNull(pointsAdded);
+        Objects.requireNonNull(totalPoints);
+    }
+
+    public CustomerLoyaltyPointsAddedEvent(CustomerId customerId, LoyaltyPoints pointsAdded, LoyaltyPoints totalPoints) {
+        this(IdGenerator.generateTimeBasedUUID(), customerId, OffsetDateTime.now(), pointsAdded, totalPoints);
+    }
+}
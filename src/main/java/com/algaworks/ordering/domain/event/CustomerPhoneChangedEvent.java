@@ -0,0 +1,22 @@
+package com.algaworks.ordering.domain.event;
+
+import com.algaworks.ordering.domain.utility.IdGenerator;
+import com.algaworks.ordering.domain.valueobject.CustomerId;
+import com.algaworks.ordering.domain.valueobject.Phone;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+public record CustomerPhoneChangedEvent(UUID eventId, CustomerId customerId, OffsetDateTime occurredAt, Phone phone) implements CustomerEvent {
+
+    public CustomerPhoneChangedEvent {
+        Objects.requireNonNull(eventId);
+        Objects.requireNonNull(customerId);
+        Objects.requireNonNull(occurredAt);
+    }
+
+    public CustomerPhoneChangedEvent(CustomerId customerId, Phone phone) {
+        this(IdGenerator.generateTimeBasedUUID(), customerId, OffsetDateTime.now(), phone);
+    }
+}
@@ -0,0 +1,24 @@
+package com.algaworks.ordering.domain.event;
+
+import com.algaworks.ordering.domain.utility.IdGenerator;
+import com.algaworks.ordering.domain.valueobject.CustomerId;
+import com.algaworks.ordering.domain.valueobject.Email;
+import com.algaworks.ordering.domain.valueobject.FullName;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+public record CustomerRegisteredEvent(UUID eventId, CustomerId customerId, OffsetDateTime occurredAt, FullName fullName, Email email) implements CustomerEvent {
+
+    public CustomerRegisteredEvent {
+        Objects.requireNonNull(eventId);
+        Objects.requireNonNull(customerId);
+        Objects.requireNonNull(occurredAt);
+        Objects.requireNonNull(fullName);
+    }
+
+    public CustomerRegisteredEvent(CustomerId customerId, FullName fullName, Email email) {
+        this(IdGenerator.generateTimeBasedUUID(), customerId, OffsetDateTime.now(), fullName, email);
+    }
+}
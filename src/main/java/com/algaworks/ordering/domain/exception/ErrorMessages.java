@@ -16,5 +16,20 @@ public class ErrorMessages {
 
     public static final String VALIDATION_ERROR_DOCUMENT_IS_NULL = "Document cannot be null";
 
+    public static final String VALIDATION_ERROR_IDEMPOTENCY_KEY_IS_BLANK = "IdempotencyKey cannot be blank";
+
+    public static final String ERROR_IDEMPOTENCY_OUTCOME_TTL_MUST_BE_POSITIVE = "Idempotency outcome TTL must be positive";
+    public static final String ERROR_IDEMPOTENCY_MAXIMUM_OUTCOMES_MUST_BE_POSITIVE = "Maximum idempotency outcomes must be positive";
+
+    public static final String ERROR_OUTBOX_RELAY_BATCH_SIZE_MUST_BE_POSITIVE = "Outbox relay batch size must be positive";
+    public static final String ERROR_OUTBOX_RELAY_LANES_MUST_BE_POSITIVE = "Outbox relay lanes must be positive";
+    public static final String ERROR_OUTBOX_PUBLISHER_RETURNED_NO_FUTURE = "Customer event publisher returned no future";
+
+    public static final String ERROR_CUSTOMER_CACHE_WEIGHT_BUDGET_MUST_BE_POSITIVE = "Customer cache weight budget must be positive";
+
+    public static final String ERROR_CUSTOMER_ID_IS_NOT_TIME_ORDERED = "Customer id is not a time-ordered UUIDv7";
+    public static final String ERROR_REGISTRATION_WINDOW_ENDS_BEFORE_START = "Registration window cannot end before it starts";
+    public static final String ERROR_PAGE_LIMIT_MUST_BE_POSITIVE = "Page limit must be positive";
+
     public static final String ERROR_CUSTOMER_ARCHIVED = "Customer is arvhived it cannot be changed";
 }
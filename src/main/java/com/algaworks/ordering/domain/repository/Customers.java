@@ -0,0 +1,13 @@
+package com.algaworks.ordering.domain.repository;
+
+import com.algaworks.ordering.domain.entity.Customer;
+import com.algaworks.ordering.domain.valueobject.CustomerId;
+
+import java.util.Optional;
+
+public interface Customers {
+
+    Optional<Customer> ofId(CustomerId customerId);
+
+    void add(Customer customer);
+}
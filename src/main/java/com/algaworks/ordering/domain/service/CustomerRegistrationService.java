@@ -0,0 +1,153 @@
+package com.algaworks.ordering.domain.service;
+
+import com.algaworks.ordering.domain.entity.Customer;
+import com.algaworks.ordering.domain.exception.DomainException;
+import com.algaworks.ordering.domain.valueobject.CustomerId;
+import com.algaworks.ordering.domain.valueobject.IdempotencyKey;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import static com.algaworks.ordering.domain.exception.ErrorMessages.ERROR_IDEMPOTENCY_MAXIMUM_OUTCOMES_MUST_BE_POSITIVE;
+import static com.algaworks.ordering.domain.exception.ErrorMessages.ERROR_IDEMPOTENCY_OUTCOME_TTL_MUST_BE_POSITIVE;
+
+/**
+ * Registers brand new customers at most once per {@link IdempotencyKey}.
+ * <p>
+ * Retries carrying the same key receive the outcome of the first attempt, and
+ * concurrent duplicates wait on the future of the attempt already in flight instead of
+ * running it again. The attempt itself runs on the caller's thread, outside any cache lock.
+ * Outcomes are kept for a bounded time and up to a bounded number of keys.
+ */
+public class CustomerRegistrationService {
+
+    public static final Duration DEFAULT_OUTCOME_TTL = Duration.ofHours(24);
+    public static final long DEFAULT_MAXIMUM_OUTCOMES = 100_000;
+
+    private final AsyncCache<IdempotencyKey, RegistrationOutcome> outcomes;
+
+    public CustomerRegistrationService() {
+        this(DEFAULT_OUTCOME_TTL, DEFAULT_MAXIMUM_OUTCOMES);
+    }
+
+    public CustomerRegistrationService(Duration outcomeTtl, long maximumOutcomes) {
+        this(outcomeTtl, maximumOutcomes, Ticker.systemTicker());
+    }
+
+    CustomerRegistrationService(Duration outcomeTtl, long maximumOutcomes, Ticker ticker) {
+        Objects.requireNonNull(outcomeTtl);
+        Objects.requireNonNull(ticker);
+        if (outcomeTtl.isNegative() || outcomeTtl.isZero()) {
+            throw new IllegalArgumentException(ERROR_IDEMPOTENCY_OUTCOME_TTL_MUST_BE_POSITIVE);
+        }
+        if (maximumOutcomes <= 0) {
+            throw new IllegalArgumentException(ERROR_IDEMPOTENCY_MAXIMUM_OUTCOMES_MUST_BE_POSITIVE);
+        }
+
+        this.outcomes = Caffeine.newBuilder()
+                .expireAfterWrite(outcomeTtl)
+                .maximumSize(maximumOutcomes)
+                .ticker(ticker)
+                .recordStats()
+                .buildAsync();
+    }
+
+    public CustomerId register(IdempotencyKey idempotencyKey, Supplier<Customer> registration) {
+        Objects.requireNonNull(idempotencyKey);
+        Objects.requireNonNull(registration);
+
+        while (true) {
+            CompletableFuture<RegistrationOutcome> attempt = new CompletableFuture<>();
+            CompletableFuture<RegistrationOutcome> outcome = outcomes.get(idempotencyKey, (key, executor) -> attempt);
+
+            if (outcome == attempt) {
+                return runAttempt(idempotencyKey, attempt, registration).customerId();
+            }
+
+            try {
+                return outcome.join().customerId();
+            } catch (CompletionException e) {
+                // The attempt in flight failed unexpectedly and left the key free: try again.
+            }
+        }
+    }
+
+    public CacheStats stats() {
+        return outcomes.synchronous().stats();
+    }
+
+    void cleanUp() {
+        outcomes.synchronous().cleanUp();
+    }
+
+    private RegistrationOutcome runAttempt(IdempotencyKey idempotencyKey,
+                                           CompletableFuture<RegistrationOutcome> attempt,
+                                           Supplier<Customer> registration) {
+        try {
+            RegistrationOutcome outcome = RegistrationOutcome.of(registration);
+            attempt.complete(outcome);
+            return outcome;
+        } catch (Throwable e) {
+            outcomes.asMap().remove(idempotencyKey, attempt);
+            attempt.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Validation failures are deterministic, so they are remembered like successes and every
+     * retry receives a fresh exception of the original class, with the original as its cause.
+     * Any other failure, errors included, propagates and leaves the key free for a new attempt.
+     */
+    private record RegistrationOutcome(CustomerId id, RuntimeException failure) {
+
+        static RegistrationOutcome of(Supplier<Customer> registration) {
+            try {
+                Customer customer = Objects.requireNonNull(registration.get());
+                return new RegistrationOutcome(customer.id(), null);
+            } catch (DomainException | IllegalArgumentException e) {
+                return new RegistrationOutcome(null, e);
+            }
+        }
+
+        CustomerId customerId() {
+            if (failure == null) {
+                return id;
+            }
+            throw copyOf(failure);
+        }
+
+        /**
+         * A new instance of the failure's class, built through its public constructors in the
+         * order {@code (String, Throwable)}, {@code (Throwable)}, {@code (String)}. Only a class
+         * exposing none of them gets the original instance back.
+         */
+        private static RuntimeException copyOf(RuntimeException failure) {
+            Class<? extends RuntimeException> type = failure.getClass();
+            try {
+                return type.getConstructor(String.class, Throwable.class).newInstance(failure.getMessage(), failure);
+            } catch (ReflectiveOperationException e) {
+                // Try the next constructor shape.
+            }
+            try {
+                return type.getConstructor(Throwable.class).newInstance(failure);
+            } catch (ReflectiveOperationException e) {
+                // Try the next constructor shape.
+            }
+            try {
+                RuntimeException copy = type.getConstructor(String.class).newInstance(failure.getMessage());
+                copy.initCause(failure);
+                return copy;
+            } catch (ReflectiveOperationException e) {
+                return failure;
+            }
+        }
+    }
+}
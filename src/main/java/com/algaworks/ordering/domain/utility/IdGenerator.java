@@ -1,5 +1,6 @@
 package com.algaworks.ordering.domain.utility;
 
+import com.algaworks.ordering.domain.diagnostic.IdGenerationJfrEvent;
 import com.fasterxml.uuid.Generators;
 import com.fasterxml.uuid.impl.TimeBasedEpochRandomGenerator;
 
@@ -13,6 +14,16 @@ public class IdGenerator {
     }
 
     public static UUID generateTimeBasedUUID() {
-        return timeBasedEpochRandomGenerator.generate();
+        IdGenerationJfrEvent jfrEvent = new IdGenerationJfrEvent();
+        jfrEvent.begin();
+        Throwable failure = null;
+        try {
+            return timeBasedEpochRandomGenerator.generate();
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            jfrEvent.complete(failure);
+        }
     }
 }
@@ -1,5 +1,6 @@
 package com.algaworks.ordering.domain.validator;
 
+import com.algaworks.ordering.domain.diagnostic.EmailValidationJfrEvent;
 import org.apache.commons.validator.routines.EmailValidator;
 
 import java.util.Objects;
@@ -25,14 +26,24 @@ public class FieldValidations {
     }
 
     public static void requiresValidEmail(String email, String errorMessage) {
-        Objects.requireNonNull(email, errorMessage);
-
-        if (email.isBlank()) {
-            throw new IllegalArgumentException(errorMessage);
-        }
-
-        if (!EmailValidator.getInstance().isValid(email)) {
-            throw new IllegalArgumentException(errorMessage);
+        EmailValidationJfrEvent jfrEvent = new EmailValidationJfrEvent();
+        jfrEvent.begin();
+        Throwable failure = null;
+        try {
+            Objects.requireNonNull(email, errorMessage);
+
+            if (email.isBlank()) {
+                throw new IllegalArgumentException(errorMessage);
+            }
+
+            if (!EmailValidator.getInstance().isValid(email)) {
+                throw new IllegalArgumentException(errorMessage);
+            }
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            jfrEvent.complete(failure);
         }
     }
 }
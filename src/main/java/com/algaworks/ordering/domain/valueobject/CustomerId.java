@@ -2,9 +2,12 @@ package com.algaworks.ordering.domain.valueobject;
 
 import com.algaworks.ordering.domain.utility.IdGenerator;
 
+import java.time.Instant;
 import java.util.Objects;
 import java.util.UUID;
 
+import static com.algaworks.ordering.domain.exception.ErrorMessages.ERROR_CUSTOMER_ID_IS_NOT_TIME_ORDERED;
+
 public record CustomerId(UUID value) {
 
     public CustomerId() {
@@ -15,6 +18,21 @@ public record CustomerId(UUID value) {
         this.value = Objects.requireNonNull(value);
     }
 
+    public boolean isTimeOrdered() {
+        return value.version() == 7;
+    }
+
+    /**
+     * The instant encoded in the 48 most significant bits of a UUIDv7, which for a
+     * generated id is when the customer was registered.
+     */
+    public Instant timestamp() {
+        if (!isTimeOrdered()) {
+            throw new IllegalStateException(ERROR_CUSTOMER_ID_IS_NOT_TIME_ORDERED);
+        }
+        return Instant.ofEpochMilli(value.getMostSignificantBits() >>> 16);
+    }
+
     @Override
     public String toString() {
         return value.toString();
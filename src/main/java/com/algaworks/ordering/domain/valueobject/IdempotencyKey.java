@@ -0,0 +1,16 @@
+package com.algaworks.ordering.domain.valueobject;
+
+import static com.algaworks.ordering.domain.exception.ErrorMessages.VALIDATION_ERROR_IDEMPOTENCY_KEY_IS_BLANK;
+import static com.algaworks.ordering.domain.validator.FieldValidations.requiresNonBlank;
+
+public record IdempotencyKey(String value) {
+
+    public IdempotencyKey {
+        requiresNonBlank(value, VALIDATION_ERROR_IDEMPOTENCY_KEY_IS_BLANK);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -0,0 +1,146 @@
+package com.algaworks.ordering.infrastructure.cache;
+
+import com.algaworks.ordering.domain.entity.Customer;
+import com.algaworks.ordering.domain.repository.Customers;
+import com.algaworks.ordering.domain.valueobject.*;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.algaworks.ordering.domain.exception.ErrorMessages.ERROR_CUSTOMER_CACHE_WEIGHT_BUDGET_MUST_BE_POSITIVE;
+
+/**
+ * Read-through cache in front of a {@link Customers} storage.
+ * <p>
+ * Admission and eviction follow Caffeine's W-TinyLFU policy, so the few customers that
+ * are read most often stay cached even when a scan of rarely read ones passes through.
+ * Any customer added back to the storage after a mutation is invalidated once the
+ * storage has accepted it.
+ * <p>
+ * Entries are immutable snapshots of the customer's state, and every read rebuilds a new
+ * {@link Customer} from one. Callers never share an aggregate, so changes they make
+ * are not visible to other readers until they are added back.
+ */
+public class CachedCustomers implements Customers {
+
+    public static final long DEFAULT_WEIGHT_BUDGET = 64L * 1024 * 1024;
+
+    private static final int BASE_CUSTOMER_WEIGHT = 512;
+
+    private final Customers storage;
+    private final LoadingCache<CustomerId, CustomerSnapshot> cache;
+
+    public CachedCustomers(Customers storage) {
+        this(storage, DEFAULT_WEIGHT_BUDGET);
+    }
+
+    public CachedCustomers(Customers storage, long weightBudget) {
+        this(storage, weightBudget, CachedCustomers::approximateWeight, ForkJoinPool.commonPool());
+    }
+
+    CachedCustomers(Customers storage, long weightBudget, Weigher<CustomerId, CustomerSnapshot> weigher, Executor executor) {
+        Objects.requireNonNull(weigher);
+        Objects.requireNonNull(executor);
+        if (weightBudget <= 0) {
+            throw new IllegalArgumentException(ERROR_CUSTOMER_CACHE_WEIGHT_BUDGET_MUST_BE_POSITIVE);
+        }
+
+        this.storage = Objects.requireNonNull(storage);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(weightBudget)
+                .weigher(weigher)
+                .executor(executor)
+                .recordStats()
+                .build(customerId -> storage.ofId(customerId).map(CustomerSnapshot::of).orElse(null));
+    }
+
+    @Override
+    public Optional<Customer> ofId(CustomerId customerId) {
+        Objects.requireNonNull(customerId);
+        return Optional.ofNullable(cache.get(customerId)).map(CustomerSnapshot::toCustomer);
+    }
+
+    @Override
+    public void add(Customer customer) {
+        Objects.requireNonNull(customer);
+        storage.add(customer);
+        cache.invalidate(customer.id());
+    }
+
+    /**
+     * Hit ratio, eviction count and load latency ({@link CacheStats#averageLoadPenalty()},
+     * in nanoseconds) of the cache.
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    static int approximateWeight(CustomerId customerId, CustomerSnapshot snapshot) {
+        return BASE_CUSTOMER_WEIGHT
+                + 2 * (snapshot.fullName().toString().length()
+                + (snapshot.email() == null ? 0 : snapshot.email().value().length())
+                + snapshot.address().street().length()
+                + snapshot.address().city().length());
+    }
+
+    record CustomerSnapshot(
+            CustomerId id,
+            FullName fullName,
+            BirthDate birthDate,
+            Email email,
+            Phone phone,
+            Document document,
+            Boolean promotionNotificationsAllowed,
+            Boolean archived,
+            OffsetDateTime registredAt,
+            OffsetDateTime archivedAt,
+            LoyaltyPoints loyaltyPoints,
+            Address address
+    ) {
+
+        static CustomerSnapshot of(Customer customer) {
+            return new CustomerSnapshot(
+                    customer.id(),
+                    customer.fullName(),
+                    customer.birthDate(),
+                    customer.email(),
+                    customer.phone(),
+                    customer.document(),
+                    customer.isPromotionNotificationsAllowed(),
+                    customer.isArchived(),
+                    customer.registredAt(),
+                    customer.archivedAt(),
+                    customer.loyaltyPoints(),
+                    customer.address()
+            );
+        }
+
+        Customer toCustomer() {
+            return Customer.existing()
+                    .id(id)
+                    .fullName(fullName)
+                    .birthDate(birthDate)
+                    .email(email)
+                    .phone(phone)
+                    .document(document)
+                    .promotionNotificationsAllowed(promotionNotificationsAllowed)
+                    .archived(archived)
+                    .registredAt(registredAt)
+                    .archivedAt(archivedAt)
+                    .loyaltyPoints(loyaltyPoints)
+                    .address(address)
+                    .build();
+        }
+    }
+}
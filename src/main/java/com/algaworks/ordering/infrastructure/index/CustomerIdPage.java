@@ -0,0 +1,16 @@
+package com.algaworks.ordering.infrastructure.index;
+
+import com.algaworks.ordering.domain.valueobject.CustomerId;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A page of ids in registration order. {@code nextCursor} is empty on the last page.
+ */
+public record CustomerIdPage(List<CustomerId> customerIds, Optional<CustomerId> nextCursor) {
+
+    public CustomerIdPage {
+        customerIds = List.copyOf(customerIds);
+    }
+}
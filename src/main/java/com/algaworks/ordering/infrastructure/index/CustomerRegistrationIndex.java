@@ -0,0 +1,136 @@
+package com.algaworks.ordering.infrastructure.index;
+
+import com.algaworks.ordering.domain.valueobject.CustomerId;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import static com.algaworks.ordering.domain.exception.ErrorMessages.*;
+
+/**
+ * Ordered index of time-ordered {@link CustomerId}s answering registration-window queries.
+ * <p>
+ * A UUIDv7 starts with its millisecond timestamp, so ordering ids by their raw bits, read
+ * as unsigned, orders them by registration instant without storing the instant. Windows are
+ * resolved to synthetic bound ids and served as sub-set views of a concurrent skip list.
+ * <p>
+ * A UUIDv7 timestamp has millisecond precision, so both bounds of a window are rounded down
+ * to the millisecond: {@code from} takes every id of its millisecond and {@code to} none of
+ * its own. Bounds outside the 48-bit timestamp range, {@code [0, 2^48 - 1]} milliseconds
+ * since the epoch, are clamped to it.
+ */
+public class CustomerRegistrationIndex {
+
+    private static final Instant TIMESTAMP_LIMIT = Instant.ofEpochMilli(1L << 48);
+
+    private static final Comparator<CustomerId> BY_RAW_BITS = (left, right) -> {
+        int byMostSignificant = Long.compareUnsigned(
+                left.value().getMostSignificantBits(), right.value().getMostSignificantBits());
+        if (byMostSignificant != 0) {
+            return byMostSignificant;
+        }
+        return Long.compareUnsigned(
+                left.value().getLeastSignificantBits(), right.value().getLeastSignificantBits());
+    };
+
+    private final ConcurrentSkipListSet<CustomerId> customerIds = new ConcurrentSkipListSet<>(BY_RAW_BITS);
+
+    public void add(CustomerId customerId) {
+        Objects.requireNonNull(customerId);
+        if (!customerId.isTimeOrdered()) {
+            throw new IllegalArgumentException(ERROR_CUSTOMER_ID_IS_NOT_TIME_ORDERED);
+        }
+        customerIds.add(customerId);
+    }
+
+    public boolean remove(CustomerId customerId) {
+        Objects.requireNonNull(customerId);
+        return customerIds.remove(customerId);
+    }
+
+    public int size() {
+        return customerIds.size();
+    }
+
+    /**
+     * Ids registered in {@code [from, to)}, oldest first.
+     */
+    public List<CustomerId> registeredBetween(Instant from, Instant to) {
+        return new ArrayList<>(window(from, to));
+    }
+
+    public long countRegisteredBetween(Instant from, Instant to) {
+        return window(from, to).size();
+    }
+
+    /**
+     * First page of the ids registered in {@code [from, to)}, oldest first.
+     */
+    public CustomerIdPage page(Instant from, Instant to, int limit) {
+        return page(window(from, to), limit);
+    }
+
+    /**
+     * Next page of the ids registered in {@code [from, to)}, starting after the
+     * {@link CustomerIdPage#nextCursor()} of the previous page. A cursor outside the window,
+     * e.g. one kept while the client narrowed it, is clamped: before the window it yields
+     * the first page, after it an empty one.
+     */
+    public CustomerIdPage page(Instant from, Instant to, CustomerId cursor, int limit) {
+        Objects.requireNonNull(cursor);
+        NavigableSet<CustomerId> window = window(from, to);
+        CustomerId next = window.higher(cursor);
+        return page(next == null ? Collections.emptyNavigableSet() : window.tailSet(next, true), limit);
+    }
+
+    private CustomerIdPage page(NavigableSet<CustomerId> window, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException(ERROR_PAGE_LIMIT_MUST_BE_POSITIVE);
+        }
+
+        List<CustomerId> page = new ArrayList<>(limit);
+        Iterator<CustomerId> iterator = window.iterator();
+        while (iterator.hasNext() && page.size() < limit) {
+            page.add(iterator.next());
+        }
+
+        Optional<CustomerId> nextCursor = iterator.hasNext()
+                ? Optional.of(page.get(page.size() - 1))
+                : Optional.empty();
+        return new CustomerIdPage(page, nextCursor);
+    }
+
+    private NavigableSet<CustomerId> window(Instant from, Instant to) {
+        Objects.requireNonNull(from);
+        Objects.requireNonNull(to);
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException(ERROR_REGISTRATION_WINDOW_ENDS_BEFORE_START);
+        }
+        if (!from.isBefore(TIMESTAMP_LIMIT)) {
+            return Collections.emptyNavigableSet();
+        }
+
+        NavigableSet<CustomerId> window = customerIds.tailSet(lowestIdAt(from), true);
+        return to.isBefore(TIMESTAMP_LIMIT) ? window.headSet(lowestIdAt(to), false) : window;
+    }
+
+    /**
+     * An id below every UUIDv7 generated at {@code instant}'s millisecond and above every
+     * one generated earlier: the timestamp followed by all-zero version and random bits.
+     * Instants before the epoch map to the lowest id; callers keep {@code instant} below
+     * {@link #TIMESTAMP_LIMIT}.
+     */
+    private static CustomerId lowestIdAt(Instant instant) {
+        long millis = instant.isBefore(Instant.EPOCH) ? 0 : instant.toEpochMilli();
+        return new CustomerId(new UUID(millis << 16, 0));
+    }
+}
@@ -0,0 +1,118 @@
+package com.algaworks.ordering.infrastructure.outbox;
+
+import com.algaworks.ordering.domain.entity.Customer;
+import com.algaworks.ordering.domain.event.CustomerEvent;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory outbox of customer events waiting to be relayed.
+ * <p>
+ * Entries receive increasing sequence numbers and stay in the outbox until the relay
+ * acknowledges them, so a failed delivery is retried from the same position.
+ */
+public class CustomerEventOutbox {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Deque<OutboxEntry> entries = new ArrayDeque<>();
+    private long nextSequence = 1;
+
+    /**
+     * Moves the events raised by the customer into the outbox. The events of one call
+     * are appended together, so no other append is interleaved with them.
+     */
+    public void append(Customer customer) {
+        Objects.requireNonNull(customer);
+        append(customer.domainEvents());
+        customer.clearDomainEvents();
+    }
+
+    public void append(Collection<? extends CustomerEvent> events) {
+        Objects.requireNonNull(events);
+        if (events.isEmpty()) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            for (CustomerEvent event : events) {
+                entries.addLast(new OutboxEntry(nextSequence++, event));
+            }
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<OutboxEntry> peek(int maximumEntries) {
+        lock.lock();
+        try {
+            List<OutboxEntry> batch = new ArrayList<>(Math.min(maximumEntries, entries.size()));
+            for (OutboxEntry entry : entries) {
+                if (batch.size() == maximumEntries) {
+                    break;
+                }
+                batch.add(entry);
+            }
+            return batch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void acknowledge(long upToSequence) {
+        lock.lock();
+        try {
+            while (!entries.isEmpty() && entries.peekFirst().sequence() <= upToSequence) {
+                entries.removeFirst();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean awaitEntries(Duration timeout) throws InterruptedException {
+        lock.lock();
+        try {
+            long remaining = timeout.toNanos();
+            while (entries.isEmpty()) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = notEmpty.awaitNanos(remaining);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int pending() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Optional<OffsetDateTime> oldestPendingOccurredAt() {
+        lock.lock();
+        try {
+            return Optional.ofNullable(entries.peekFirst()).map(entry -> entry.event().occurredAt());
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.algaworks.ordering.infrastructure.outbox;
+
+import com.algaworks.ordering.domain.event.CustomerEvent;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.algaworks.ordering.domain.exception.ErrorMessages.ERROR_OUTBOX_PUBLISHER_RETURNED_NO_FUTURE;
+import static com.algaworks.ordering.domain.exception.ErrorMessages.ERROR_OUTBOX_RELAY_BATCH_SIZE_MUST_BE_POSITIVE;
+import static com.algaworks.ordering.domain.exception.ErrorMessages.ERROR_OUTBOX_RELAY_LANES_MUST_BE_POSITIVE;
+
+/**
+ * Background relay that drains the {@link CustomerEventOutbox} in batches.
+ * <p>
+ * Each batch is split into lanes by customer, and the lanes are published concurrently.
+ * A batch is acknowledged only when every lane succeeded; otherwise the whole batch is
+ * published again, so delivery is at least once and per-customer order is kept.
+ * <p>
+ * An attempt still running after {@code publishTimeout} is counted as timed out, but the
+ * relay keeps waiting for it to settle before acknowledging or retrying: a retry never
+ * overlaps an earlier attempt, so a late delivery cannot land after newer events.
+ * <p>
+ * Any unexpected failure while relaying a batch counts as a failed attempt and is retried
+ * after the back-off, so the worker keeps running until it is closed.
+ */
+public class CustomerEventOutboxRelay implements AutoCloseable {
+
+    public static final int DEFAULT_BATCH_SIZE = 500;
+    public static final int DEFAULT_LANES = 4;
+    public static final Duration DEFAULT_PUBLISH_TIMEOUT = Duration.ofSeconds(10);
+    public static final Duration DEFAULT_RETRY_BACKOFF = Duration.ofMillis(200);
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+
+    private final CustomerEventOutbox outbox;
+    private final CustomerEventPublisher publisher;
+    private final int batchSize;
+    private final int lanes;
+    private final Duration publishTimeout;
+    private final Duration retryBackoff;
+    private final Clock clock;
+
+    private final LongAdder publishedEvents = new LongAdder();
+    private final LongAdder failedAttempts = new LongAdder();
+    private final LongAdder timedOutAttempts = new LongAdder();
+
+    private volatile boolean running;
+    private volatile Instant startedAt;
+    private Thread worker;
+
+    public CustomerEventOutboxRelay(CustomerEventOutbox outbox, CustomerEventPublisher publisher) {
+        this(outbox, publisher, DEFAULT_BATCH_SIZE, DEFAULT_LANES, DEFAULT_PUBLISH_TIMEOUT, DEFAULT_RETRY_BACKOFF, Clock.systemUTC());
+    }
+
+    public CustomerEventOutboxRelay(CustomerEventOutbox outbox,
+                                    CustomerEventPublisher publisher,
+                                    int batchSize,
+                                    int lanes,
+                                    Duration publishTimeout,
+                                    Duration retryBackoff,
+                                    Clock clock) {
+        this.outbox = Objects.requireNonNull(outbox);
+        this.publisher = Objects.requireNonNull(publisher);
+        this.publishTimeout = Objects.requireNonNull(publishTimeout);
+        this.retryBackoff = Objects.requireNonNull(retryBackoff);
+        this.clock = Objects.requireNonNull(clock);
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException(ERROR_OUTBOX_RELAY_BATCH_SIZE_MUST_BE_POSITIVE);
+        }
+        if (lanes <= 0) {
+            throw new IllegalArgumentException(ERROR_OUTBOX_RELAY_LANES_MUST_BE_POSITIVE);
+        }
+        this.batchSize = batchSize;
+        this.lanes = lanes;
+    }
+
+    public synchronized void start() {
+        if (running && worker.isAlive()) {
+            return;
+        }
+        running = true;
+        startedAt = clock.instant();
+        worker = Thread.ofPlatform()
+                .name("customer-event-outbox-relay")
+                .daemon()
+                .start(this::relay);
+    }
+
+    @Override
+    public synchronized void close() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        worker.interrupt();
+        worker.join();
+    }
+
+    public OutboxRelayMetrics metrics() {
+        Instant now = clock.instant();
+        long published = publishedEvents.sum();
+        double elapsedSeconds = startedAt == null ? 0 : Duration.between(startedAt, now).toNanos() / 1_000_000_000.0;
+        Duration lag = outbox.oldestPendingOccurredAt()
+                .map(occurredAt -> Duration.between(occurredAt.toInstant(), now))
+                .filter(duration -> !duration.isNegative())
+                .orElse(Duration.ZERO);
+
+        return new OutboxRelayMetrics(
+                published,
+                failedAttempts.sum(),
+                timedOutAttempts.sum(),
+                elapsedSeconds > 0 ? published / elapsedSeconds : 0,
+                lag,
+                outbox.pending()
+        );
+    }
+
+    private void relay() {
+        while (running) {
+            try {
+                if (!relayNextBatch()) {
+                    failedAttempts.increment();
+                    Thread.sleep(retryBackoff);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Publishes and acknowledges the next batch, if any. Returns {@code false} when the
+     * attempt failed, including on any unexpected runtime failure.
+     */
+    private boolean relayNextBatch() throws InterruptedException {
+        try {
+            if (!outbox.awaitEntries(POLL_INTERVAL)) {
+                return true;
+            }
+
+            List<OutboxEntry> batch = outbox.peek(batchSize);
+            if (!publish(batch)) {
+                return false;
+            }
+            publishedEvents.add(batch.size());
+            outbox.acknowledge(batch.get(batch.size() - 1).sequence());
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private boolean publish(List<OutboxEntry> batch) throws InterruptedException {
+        Map<Integer, List<CustomerEvent>> eventsByLane = new LinkedHashMap<>();
+        for (OutboxEntry entry : batch) {
+            eventsByLane.computeIfAbsent(laneOf(entry.event()), lane -> new ArrayList<>()).add(entry.event());
+        }
+
+        CompletableFuture<?>[] inFlight = eventsByLane.values().stream()
+                .map(this::publishLane)
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture<Void> attempt = CompletableFuture.allOf(inFlight);
+        try {
+            attempt.get(publishTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (ExecutionException e) {
+            return false;
+        } catch (TimeoutException e) {
+            timedOutAttempts.increment();
+            return awaitSettled(attempt);
+        }
+    }
+
+    private boolean awaitSettled(CompletableFuture<Void> attempt) throws InterruptedException {
+        try {
+            attempt.get();
+            return true;
+        } catch (ExecutionException e) {
+            return false;
+        }
+    }
+
+    private CompletableFuture<Void> publishLane(List<CustomerEvent> events) {
+        try {
+            CompletableFuture<Void> published = publisher.publish(List.copyOf(events));
+            return published != null
+                    ? published
+                    : CompletableFuture.failedFuture(new IllegalStateException(ERROR_OUTBOX_PUBLISHER_RETURNED_NO_FUTURE));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private int laneOf(CustomerEvent event) {
+        return Math.floorMod(event.customerId().hashCode(), lanes);
+    }
+}
@@ -0,0 +1,17 @@
+package com.algaworks.ordering.infrastructure.outbox;
+
+import com.algaworks.ordering.domain.event.CustomerEvent;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Delivers customer events to a broker. Within one relayed batch, events of the same
+ * customer arrive in the same call and in the order they occurred; the returned future
+ * completes once the broker has accepted all of them.
+ */
+@FunctionalInterface
+public interface CustomerEventPublisher {
+
+    CompletableFuture<Void> publish(List<CustomerEvent> events);
+}
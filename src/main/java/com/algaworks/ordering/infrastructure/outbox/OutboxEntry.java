@@ -0,0 +1,12 @@
+package com.algaworks.ordering.infrastructure.outbox;
+
+import com.algaworks.ordering.domain.event.CustomerEvent;
+
+import java.util.Objects;
+
+public record OutboxEntry(long sequence, CustomerEvent event) {
+
+    public OutboxEntry {
+        Objects.requireNonNull(event);
+    }
+}
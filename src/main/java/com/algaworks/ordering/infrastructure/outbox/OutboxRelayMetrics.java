@@ -0,0 +1,13 @@
+package com.algaworks.ordering.infrastructure.outbox;
+
+import java.time.Duration;
+
+public record OutboxRelayMetrics(
+        long publishedEvents,
+        long failedAttempts,
+        long timedOutAttempts,
+        double eventsPerSecond,
+        Duration lag,
+        int pendingEvents
+) {
+}
@@ -0,0 +1,41 @@
+package com.algaworks.ordering.domain.diagnostic;
+
+import com.algaworks.ordering.domain.entity.Customer;
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static com.algaworks.ordering.domain.entity.CustomerTestDataBuilder.brandNewCustomer;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that a disabled domain JFR event costs no allocation once the instrumented
+ * method is compiled. Tagged {@code benchmark} so it runs through
+ * {@code ./gradlew benchmarkTest} in a JVM where no recording has enabled the events:
+ * once a recording has, the JDK keeps the event object on the heap.
+ */
+@Tag("benchmark")
+class DomainJfrEventsAllocationBenchmarkTest {
+
+    private static final int ROUNDS = 20;
+    private static final int CALLS_PER_ROUND = 100_000;
+
+    @Test
+    void given_noRecording_whenMutationRunsHot_shouldNotAllocateEvent() {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Customer customer = brandNewCustomer().build();
+
+        long allocatedInLastRound = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long before = threads.getCurrentThreadAllocatedBytes();
+            for (int call = 0; call < CALLS_PER_ROUND; call++) {
+                customer.enablePromotionNotifications();
+            }
+            allocatedInLastRound = threads.getCurrentThreadAllocatedBytes() - before;
+        }
+
+        assertThat(allocatedInLastRound).isLessThan(CALLS_PER_ROUND);
+    }
+}
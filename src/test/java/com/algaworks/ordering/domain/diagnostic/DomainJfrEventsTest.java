@@ -0,0 +1,97 @@
+package com.algaworks.ordering.domain.diagnostic;
+
+import com.algaworks.ordering.domain.entity.Customer;
+import com.algaworks.ordering.domain.exception.CustomerArchivedException;
+import com.algaworks.ordering.domain.valueobject.Email;
+import com.algaworks.ordering.domain.valueobject.LoyaltyPoints;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+import static com.algaworks.ordering.domain.entity.CustomerTestDataBuilder.brandNewCustomer;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DomainJfrEventsTest {
+
+    @Test
+    void given_bundledProfile_whenCustomerOperationsRun_shouldRecordEvents(@TempDir Path directory) throws Exception {
+        Path dump = directory.resolve("ordering.jfr");
+        String customerId;
+
+        try (Recording recording = new Recording(bundledConfiguration())) {
+            recording.enable(EmailValidationJfrEvent.NAME).withThreshold(Duration.ZERO);
+            recording.enable(IdGenerationJfrEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+
+            Customer customer = brandNewCustomer().build();
+            customerId = customer.id().toString();
+            customer.addLoyaltyPoints(new LoyaltyPoints(10));
+            customer.archive();
+            Assertions.assertThatExceptionOfType(CustomerArchivedException.class)
+                    .isThrownBy(() -> customer.changeEmail(new Email("john.doe@other.com")));
+            Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> new Email("invalid"));
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+
+        assertThat(eventsNamed(events, CustomerRegistrationJfrEvent.NAME))
+                .anySatisfy(event -> {
+                    assertThat(event.getString("customerId")).isEqualTo(customerId);
+                    assertThat(event.getString("outcome")).isEqualTo(DomainOperationJfrEvent.SUCCESS);
+                });
+        assertThat(eventsNamed(events, CustomerMutationJfrEvent.NAME))
+                .filteredOn(event -> customerId.equals(event.getString("customerId")))
+                .extracting(event -> event.getString("operation") + ":" + event.getString("outcome"))
+                .containsExactly("addLoyaltyPoints:SUCCESS", "changeEmail:FAILURE");
+        assertThat(eventsNamed(events, CustomerMutationJfrEvent.NAME))
+                .filteredOn(event -> "changeEmail".equals(event.getString("operation")))
+                .allSatisfy(event -> assertThat(event.getString("failureReason")).startsWith("CustomerArchivedException"));
+        assertThat(eventsNamed(events, CustomerArchiveJfrEvent.NAME))
+                .anySatisfy(event -> assertThat(event.getString("customerId")).isEqualTo(customerId));
+        assertThat(eventsNamed(events, EmailValidationJfrEvent.NAME))
+                .extracting(event -> event.getString("outcome"))
+                .contains(DomainOperationJfrEvent.SUCCESS, DomainOperationJfrEvent.FAILURE);
+        assertThat(eventsNamed(events, IdGenerationJfrEvent.NAME))
+                .isNotEmpty()
+                .allSatisfy(event -> assertThat(event.getDuration()).isNotNegative());
+    }
+
+    @Test
+    void given_noRecording_whenCustomerOperationsRun_shouldNotFail() {
+        Customer customer = brandNewCustomer().build();
+
+        customer.addLoyaltyPoints(new LoyaltyPoints(10));
+
+        assertThat(customer.loyaltyPoints().value()).isEqualTo(10);
+    }
+
+    private static Configuration bundledConfiguration() throws IOException, ParseException {
+        try (Reader reader = new InputStreamReader(
+                Objects.requireNonNull(DomainJfrEventsTest.class.getResourceAsStream("/jfr/ordering.jfc")),
+                StandardCharsets.UTF_8)) {
+            return Configuration.create(reader);
+        }
+    }
+
+    private static List<RecordedEvent> eventsNamed(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+    }
+}
@@ -1,5 +1,6 @@
 package com.algaworks.ordering.domain.entity;
 
+import com.algaworks.ordering.domain.event.*;
 import com.algaworks.ordering.domain.exception.CustomerArchivedException;
 import com.algaworks.ordering.domain.valueobject.Email;
 import com.algaworks.ordering.domain.valueobject.FullName;
@@ -92,4 +93,70 @@ class CustomerTest {
                 .isThrownBy(() -> customer.addLoyaltyPoints(new LoyaltyPoints(-10)));
     }
 
+    @Test
+    void given_brandNewCustomer_whenMutate_shouldRegisterEventsInOrder() {
+        Customer customer = brandNewCustomer().build();
+
+        customer.addLoyaltyPoints(new LoyaltyPoints(10));
+        customer.changeEmail(new Email("john.doe@other.com"));
+        customer.changePhone(new Phone("478-256-2505"));
+        customer.changeAddress(customer.address().toBuilder().number("1135").build());
+        customer.archive();
+
+        assertThat(customer.domainEvents())
+                .hasExactlyElementsOfTypes(
+                        CustomerRegisteredEvent.class,
+                        CustomerLoyaltyPointsAddedEvent.class,
+                        CustomerEmailChangedEvent.class,
+                        CustomerPhoneChangedEvent.class,
+                        CustomerAddressChangedEvent.class,
+                        CustomerArchivedEvent.class
+                )
+                .allMatch(event -> event.customerId().equals(customer.id()));
+    }
+
+    @Test
+    void given_customerWithEvents_whenClearDomainEvents_shouldRemoveThem() {
+        Customer customer = brandNewCustomer().build();
+
+        customer.clearDomainEvents();
+
+        assertThat(customer.domainEvents()).isEmpty();
+    }
+
+    @Test
+    void given_brandNewCustomerWithoutEmail_whenBuild_shouldRegisterEvent() {
+        Customer customer = brandNewCustomer().email(null).build();
+
+        assertThat(customer.email()).isNull();
+        assertThat(customer.domainEvents()).hasExactlyElementsOfTypes(CustomerRegisteredEvent.class);
+    }
+
+    @Test
+    void given_brandNewCustomer_whenClearEmailAndPhone_shouldChangeAndRegisterEvents() {
+        Customer customer = brandNewCustomer().build();
+        customer.clearDomainEvents();
+
+        customer.changeEmail(null);
+        customer.changePhone(null);
+
+        assertThat(customer.email()).isNull();
+        assertThat(customer.phone()).isNull();
+        assertThat(customer.domainEvents())
+                .hasExactlyElementsOfTypes(CustomerEmailChangedEvent.class, CustomerPhoneChangedEvent.class);
+    }
+
+    @Test
+    void given_brandNewCustomer_whenChangeAddressToNull_shouldKeepStateAndRegisterNoEvent() {
+        Customer customer = brandNewCustomer().build();
+        customer.clearDomainEvents();
+        var address = customer.address();
+
+        Assertions.assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> customer.changeAddress(null));
+
+        assertThat(customer.address()).isEqualTo(address);
+        assertThat(customer.domainEvents()).isEmpty();
+    }
+
 }
\ No newline at end of file
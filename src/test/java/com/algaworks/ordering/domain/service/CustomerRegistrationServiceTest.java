@@ -0,0 +1,201 @@
+package com.algaworks.ordering.domain.service;
+
+import com.algaworks.ordering.domain.entity.Customer;
+import com.algaworks.ordering.domain.exception.CustomerArchivedException;
+import com.algaworks.ordering.domain.valueobject.CustomerId;
+import com.algaworks.ordering.domain.valueobject.Email;
+import com.algaworks.ordering.domain.valueobject.IdempotencyKey;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static com.algaworks.ordering.domain.entity.CustomerTestDataBuilder.brandNewCustomer;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomerRegistrationServiceTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger registrations = new AtomicInteger();
+
+    private final CustomerRegistrationService service =
+            new CustomerRegistrationService(Duration.ofMinutes(10), 100, nanos::get);
+
+    private final Supplier<Customer> registration = () -> {
+        registrations.incrementAndGet();
+        return brandNewCustomer().build();
+    };
+
+    @Test
+    void given_sameIdempotencyKey_whenRegisterTwice_shouldReturnSameCustomerId() {
+        IdempotencyKey key = new IdempotencyKey("signup-1");
+
+        CustomerId first = service.register(key, registration);
+        CustomerId retry = service.register(key, registration);
+
+        assertThat(retry).isEqualTo(first);
+        assertThat(registrations).hasValue(1);
+        assertThat(service.stats().hitCount()).isEqualTo(1);
+        assertThat(service.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void given_differentIdempotencyKeys_whenRegister_shouldRegisterEach() {
+        CustomerId first = service.register(new IdempotencyKey("signup-1"), registration);
+        CustomerId second = service.register(new IdempotencyKey("signup-2"), registration);
+
+        assertThat(second).isNotEqualTo(first);
+        assertThat(registrations).hasValue(2);
+    }
+
+    @Test
+    void given_expiredOutcome_whenRegisterAgain_shouldRegisterAgain() {
+        IdempotencyKey key = new IdempotencyKey("signup-1");
+        CustomerId first = service.register(key, registration);
+
+        nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+
+        assertThat(service.register(key, registration)).isNotEqualTo(first);
+        assertThat(registrations).hasValue(2);
+    }
+
+    @Test
+    void given_invalidRegistration_whenRetry_shouldRethrowWithoutValidatingAgain() {
+        IdempotencyKey key = new IdempotencyKey("signup-1");
+        Supplier<Customer> invalidRegistration = () -> {
+            registrations.incrementAndGet();
+            return brandNewCustomer().email(new Email("invalid")).build();
+        };
+
+        Throwable first = Assertions.catchThrowable(() -> service.register(key, invalidRegistration));
+        Throwable retry = Assertions.catchThrowable(() -> service.register(key, invalidRegistration));
+
+        assertThat(first).isInstanceOf(IllegalArgumentException.class);
+        assertThat(retry)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(first.getMessage())
+                .hasCause(first)
+                .isNotSameAs(first);
+        assertThat(registrations).hasValue(1);
+    }
+
+    @Test
+    void given_registrationRejectedWithDomainExceptionSubtype_whenRetry_shouldRethrowSameSubtype() {
+        IdempotencyKey key = new IdempotencyKey("signup-1");
+        Supplier<Customer> archivedRegistration = () -> {
+            registrations.incrementAndGet();
+            Customer customer = brandNewCustomer().build();
+            customer.archive();
+            customer.archive();
+            return customer;
+        };
+
+        Throwable first = Assertions.catchThrowable(() -> service.register(key, archivedRegistration));
+        Throwable retry = Assertions.catchThrowable(() -> service.register(key, archivedRegistration));
+
+        assertThat(first).isExactlyInstanceOf(CustomerArchivedException.class);
+        assertThat(retry)
+                .isExactlyInstanceOf(CustomerArchivedException.class)
+                .hasMessage(first.getMessage())
+                .hasCause(first)
+                .isNotSameAs(first);
+        assertThat(registrations).hasValue(1);
+    }
+
+    @Test
+    void given_errorDuringRegistration_whenRetry_shouldRegisterAgain() {
+        IdempotencyKey key = new IdempotencyKey("signup-1");
+        Supplier<Customer> brokenRegistration = () -> {
+            registrations.incrementAndGet();
+            throw new AssertionError("Broken registration");
+        };
+
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> service.register(key, brokenRegistration));
+
+        assertThat(service.register(key, registration)).isNotNull();
+        assertThat(registrations).hasValue(2);
+    }
+
+    @Test
+    void given_unexpectedFailure_whenRetry_shouldRegisterAgain() {
+        IdempotencyKey key = new IdempotencyKey("signup-1");
+        Supplier<Customer> failingRegistration = () -> {
+            registrations.incrementAndGet();
+            throw new IllegalStateException("Storage unavailable");
+        };
+
+        Assertions.assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> service.register(key, failingRegistration));
+
+        assertThat(service.register(key, registration)).isNotNull();
+        assertThat(registrations).hasValue(2);
+    }
+
+    @Test
+    void given_inFlightRegistration_whenDuplicateArrives_shouldWaitForFirstAttempt() throws Exception {
+        IdempotencyKey key = new IdempotencyKey("signup-1");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<Customer> slowRegistration = () -> {
+            started.countDown();
+            await(release);
+            return registration.get();
+        };
+
+        CompletableFuture<CustomerId> first = new CompletableFuture<>();
+        CompletableFuture<CustomerId> duplicate = new CompletableFuture<>();
+        Thread firstThread = Thread.ofPlatform().start(() -> first.complete(service.register(key, slowRegistration)));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread duplicateThread = Thread.ofPlatform().start(() -> duplicate.complete(service.register(key, slowRegistration)));
+
+        awaitState(duplicateThread, Thread.State.WAITING);
+        assertThat(duplicate).isNotDone();
+        release.countDown();
+        firstThread.join(5_000);
+        duplicateThread.join(5_000);
+
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).isEqualTo(first.get(5, TimeUnit.SECONDS));
+        assertThat(registrations).hasValue(1);
+        assertThat(service.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void given_moreKeysThanMaximum_whenRegister_shouldEvictOutcomes() {
+        for (int i = 0; i < 500; i++) {
+            service.register(new IdempotencyKey("signup-" + i), registration);
+        }
+
+        service.cleanUp();
+
+        assertThat(service.stats().evictionCount()).isGreaterThanOrEqualTo(400);
+    }
+
+    @Test
+    void given_blankIdempotencyKey_whenCreate_shouldGenerateException() {
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new IdempotencyKey(" "));
+    }
+
+    private static void awaitState(Thread thread, Thread.State state) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != state && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(thread.getState()).isEqualTo(state);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.algaworks.ordering.infrastructure.cache;
+
+import com.algaworks.ordering.domain.entity.Customer;
+import com.algaworks.ordering.domain.valueobject.CustomerId;
+import com.algaworks.ordering.workload.ZipfianGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.algaworks.ordering.domain.entity.CustomerTestDataBuilder.brandNewCustomer;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Trace-driven comparison between {@link CachedCustomers} and a plain LRU cache of the
+ * same capacity, replaying the same Zipfian sequence of customer lookups on both.
+ */
+class CachedCustomersSimulationTest {
+
+    private static final int CUSTOMERS = 20_000;
+    private static final int CAPACITY = 400;
+    private static final int LOOKUPS = 200_000;
+    private static final double ZIPF_EXPONENT = 0.9;
+    private static final long SEED = 42;
+
+    private final InMemoryCustomers storage = new InMemoryCustomers();
+    private final CustomerId[] customerIds = new CustomerId[CUSTOMERS];
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < CUSTOMERS; i++) {
+            Customer customer = brandNewCustomer().build();
+            storage.add(customer);
+            customerIds[i] = customer.id();
+        }
+    }
+
+    @Test
+    void given_zipfianLookups_whenReplayed_shouldHitMoreOftenThanLru() {
+        double tinyLfuHitRatio = replayOnCachedCustomers();
+        double lruHitRatio = replayOnLru();
+
+        assertThat(tinyLfuHitRatio)
+                .as("W-TinyLFU hit ratio %.4f vs LRU hit ratio %.4f", tinyLfuHitRatio, lruHitRatio)
+                .isGreaterThan(lruHitRatio);
+    }
+
+    private double replayOnCachedCustomers() {
+        CachedCustomers customers = new CachedCustomers(storage, CAPACITY, (id, customer) -> 1, Runnable::run);
+        ZipfianGenerator trace = new ZipfianGenerator(CUSTOMERS, ZIPF_EXPONENT, SEED);
+
+        for (int i = 0; i < LOOKUPS; i++) {
+            customers.ofId(customerIds[trace.next()]);
+        }
+
+        return customers.stats().hitRate();
+    }
+
+    private double replayOnLru() {
+        Map<CustomerId, Customer> lru = new LinkedHashMap<>(CAPACITY, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CustomerId, Customer> eldest) {
+                return size() > CAPACITY;
+            }
+        };
+        ZipfianGenerator trace = new ZipfianGenerator(CUSTOMERS, ZIPF_EXPONENT, SEED);
+
+        int hits = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            CustomerId customerId = customerIds[trace.next()];
+            if (lru.get(customerId) != null) {
+                hits++;
+            } else {
+                storage.ofId(customerId).ifPresent(customer -> lru.put(customerId, customer));
+            }
+        }
+
+        return (double) hits / LOOKUPS;
+    }
+}
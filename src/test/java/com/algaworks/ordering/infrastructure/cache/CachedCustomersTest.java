@@ -0,0 +1,97 @@
+package com.algaworks.ordering.infrastructure.cache;
+
+import com.algaworks.ordering.domain.entity.Customer;
+import com.algaworks.ordering.domain.valueobject.CustomerId;
+import com.algaworks.ordering.domain.valueobject.Email;
+import org.junit.jupiter.api.Test;
+
+import static com.algaworks.ordering.domain.entity.CustomerTestDataBuilder.brandNewCustomer;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedCustomersTest {
+
+    private final InMemoryCustomers storage = new InMemoryCustomers();
+    private final CachedCustomers customers =
+            new CachedCustomers(storage, 100, (id, customer) -> 1, Runnable::run);
+
+    @Test
+    void given_storedCustomer_whenReadTwice_shouldLoadOnce() {
+        Customer customer = brandNewCustomer().build();
+        storage.add(customer);
+
+        assertThat(customers.ofId(customer.id())).contains(customer);
+        assertThat(customers.ofId(customer.id())).contains(customer);
+
+        assertThat(storage.loads()).isEqualTo(1);
+        assertThat(customers.stats().hitCount()).isEqualTo(1);
+        assertThat(customers.stats().averageLoadPenalty()).isPositive();
+    }
+
+    @Test
+    void given_unknownCustomer_whenRead_shouldReturnEmptyWithoutCaching() {
+        CustomerId customerId = new CustomerId();
+
+        assertThat(customers.ofId(customerId)).isEmpty();
+        assertThat(customers.ofId(customerId)).isEmpty();
+
+        assertThat(storage.loads()).isEqualTo(2);
+    }
+
+    @Test
+    void given_cachedCustomer_whenMutationIsAdded_shouldInvalidate() {
+        Customer customer = brandNewCustomer().build();
+        customers.add(customer);
+        customers.ofId(customer.id());
+
+        customer.changeEmail(new Email("john.doe@other.com"));
+        customers.add(customer);
+        customers.ofId(customer.id());
+
+        assertThat(storage.loads()).isEqualTo(2);
+    }
+
+    @Test
+    void given_cachedCustomer_whenReturnedCopyIsChangedWithoutAdd_shouldKeepCachedState() {
+        Customer customer = brandNewCustomer().build();
+        storage.add(customer);
+        Email committedEmail = customer.email();
+
+        Customer read = customers.ofId(customer.id()).orElseThrow();
+        read.changeEmail(new Email("john.doe@other.com"));
+        Customer reread = customers.ofId(customer.id()).orElseThrow();
+
+        assertThat(reread).isNotSameAs(read);
+        assertThat(reread.email()).isEqualTo(committedEmail);
+        assertThat(reread.domainEvents()).isEmpty();
+        assertThat(storage.loads()).isEqualTo(1);
+    }
+
+    @Test
+    void given_moreCustomersThanWeightBudget_whenRead_shouldEvict() {
+        for (int i = 0; i < 300; i++) {
+            Customer customer = brandNewCustomer().build();
+            storage.add(customer);
+            customers.ofId(customer.id());
+        }
+
+        assertThat(customers.estimatedSize()).isLessThanOrEqualTo(100);
+        assertThat(customers.stats().evictionCount()).isGreaterThanOrEqualTo(200);
+    }
+
+    @Test
+    void given_customer_whenWeigh_shouldAccountForItsFields() {
+        Customer customer = brandNewCustomer().build();
+
+        assertThat(CachedCustomers.approximateWeight(customer.id(), CachedCustomers.CustomerSnapshot.of(customer)))
+                .isGreaterThan(512);
+    }
+
+    @Test
+    void given_customerWithoutEmail_whenReadWithDefaultWeigher_shouldLoadIt() {
+        Customer customer = brandNewCustomer().email(null).build();
+        storage.add(customer);
+        CachedCustomers weighedCustomers = new CachedCustomers(storage);
+
+        assertThat(weighedCustomers.ofId(customer.id())).contains(customer);
+    }
+}
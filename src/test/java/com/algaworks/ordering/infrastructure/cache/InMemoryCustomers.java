@@ -0,0 +1,31 @@
+package com.algaworks.ordering.infrastructure.cache;
+
+import com.algaworks.ordering.domain.entity.Customer;
+import com.algaworks.ordering.domain.repository.Customers;
+import com.algaworks.ordering.domain.valueobject.CustomerId;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class InMemoryCustomers implements Customers {
+
+    private final Map<CustomerId, Customer> customers = new ConcurrentHashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Override
+    public Optional<Customer> ofId(CustomerId customerId) {
+        loads.incrementAndGet();
+        return Optional.ofNullable(customers.get(customerId));
+    }
+
+    @Override
+    public void add(Customer customer) {
+        customers.put(customer.id(), customer);
+    }
+
+    int loads() {
+        return loads.get();
+    }
+}
@@ -0,0 +1,55 @@
+package com.algaworks.ordering.infrastructure.index;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per-query latencies of a single-threaded benchmark, recorded in nanoseconds and
+ * reported in microseconds next to the parameters needed to repeat it.
+ */
+record BenchmarkReport(
+        String name,
+        long seed,
+        int dataSetSize,
+        int measuredQueries,
+        Map<String, Histogram> latencies
+) {
+
+    private static final double NANOS_PER_MICRO = 1_000.0;
+
+    Path writeTo(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path report = directory.resolve(name + ".txt");
+
+        try (PrintStream out = new PrintStream(Files.newOutputStream(report), false, StandardCharsets.UTF_8)) {
+            out.printf(Locale.ROOT, "name=%s%nseed=%d%ndataSetSize=%d%nmeasuredQueries=%d%njava=%s%n%n",
+                    name, seed, dataSetSize, measuredQueries, System.getProperty("java.version"));
+
+            out.printf(Locale.ROOT, "%-18s %10s %10s %10s %10s %10s%n",
+                    "query", "p50(us)", "p90(us)", "p99(us)", "p99.9(us)", "max(us)");
+            Map<String, Histogram> byName = new TreeMap<>(latencies);
+            byName.forEach((query, histogram) -> out.printf(Locale.ROOT, "%-18s %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+                    query,
+                    histogram.getValueAtPercentile(50) / NANOS_PER_MICRO,
+                    histogram.getValueAtPercentile(90) / NANOS_PER_MICRO,
+                    histogram.getValueAtPercentile(99) / NANOS_PER_MICRO,
+                    histogram.getValueAtPercentile(99.9) / NANOS_PER_MICRO,
+                    histogram.getMaxValue() / NANOS_PER_MICRO));
+
+            byName.forEach((query, histogram) -> {
+                out.printf("%n# %s%n", query);
+                histogram.outputPercentileDistribution(out, NANOS_PER_MICRO);
+            });
+        }
+
+        return report;
+    }
+}
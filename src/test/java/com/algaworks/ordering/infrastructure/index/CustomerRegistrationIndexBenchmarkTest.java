@@ -0,0 +1,94 @@
+package com.algaworks.ordering.infrastructure.index;
+
+import com.algaworks.ordering.domain.entity.Customer;
+import com.algaworks.ordering.domain.valueobject.CustomerId;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static com.algaworks.ordering.domain.entity.CustomerTestDataBuilder.existingCustomerBuild;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares "customers registered in a week" answered by {@link CustomerRegistrationIndex}
+ * with a scan over {@link Customer#registredAt()}. Excluded from {@code test}; run it with
+ * {@code ./gradlew benchmarkTest}, sized with {@code -Dbenchmark.customers}.
+ */
+@Tag("benchmark")
+class CustomerRegistrationIndexBenchmarkTest {
+
+    private static final Instant FIRST_REGISTRATION = Instant.parse("2025-10-01T00:00:00Z");
+    private static final Duration HISTORY = Duration.ofDays(365);
+    private static final Duration WINDOW = Duration.ofDays(7);
+    private static final int WARMUP_QUERIES = 200;
+    private static final int MEASURED_QUERIES = 500;
+    private static final long SEED = 42;
+
+    private final int customers = Integer.getInteger("benchmark.customers", 200_000);
+    private final Path reportDir = Path.of(System.getProperty("benchmark.reportDir", "build/reports/benchmark"));
+
+    @Test
+    void registrationWindowQueries() throws IOException {
+        Random random = new Random(SEED);
+        List<Customer> storage = new ArrayList<>(customers);
+        CustomerRegistrationIndex index = new CustomerRegistrationIndex();
+        for (int i = 0; i < customers; i++) {
+            Instant registeredAt = FIRST_REGISTRATION.plusMillis((long) i * HISTORY.toMillis() / customers);
+            CustomerId customerId = TimeOrderedCustomerIds.at(registeredAt, random);
+            storage.add(existingCustomerBuild()
+                    .id(customerId)
+                    .registredAt(registeredAt.atOffset(ZoneOffset.UTC))
+                    .build());
+            index.add(customerId);
+        }
+
+        Histogram indexLatencies = new Histogram(3);
+        Histogram scanLatencies = new Histogram(3);
+        Random windows = new Random(SEED);
+        for (int query = 0; query < WARMUP_QUERIES + MEASURED_QUERIES; query++) {
+            Instant from = FIRST_REGISTRATION.plusMillis((long) (windows.nextDouble() * (HISTORY.toMillis() - WINDOW.toMillis())));
+            Instant to = from.plus(WINDOW);
+            boolean measured = query >= WARMUP_QUERIES;
+
+            long startedAt = System.nanoTime();
+            List<CustomerId> fromIndex = index.registeredBetween(from, to);
+            long indexNanos = System.nanoTime() - startedAt;
+
+            startedAt = System.nanoTime();
+            List<CustomerId> fromScan = scan(storage, from, to);
+            long scanNanos = System.nanoTime() - startedAt;
+
+            assertThat(fromIndex).isEqualTo(fromScan);
+            if (measured) {
+                indexLatencies.recordValue(indexNanos);
+                scanLatencies.recordValue(scanNanos);
+            }
+        }
+
+        BenchmarkReport report = new BenchmarkReport("customer-registration-index", SEED, customers, MEASURED_QUERIES,
+                Map.of("IndexRange", indexLatencies, "RegistredAtScan", scanLatencies));
+        report.writeTo(reportDir);
+
+        assertThat(indexLatencies.getValueAtPercentile(50)).isLessThan(scanLatencies.getValueAtPercentile(50));
+    }
+
+    private static List<CustomerId> scan(List<Customer> storage, Instant from, Instant to) {
+        return storage.stream()
+                .filter(customer -> !customer.registredAt().toInstant().isBefore(from)
+                        && customer.registredAt().toInstant().isBefore(to))
+                .sorted(Comparator.comparing(Customer::registredAt))
+                .map(Customer::id)
+                .toList();
+    }
+}
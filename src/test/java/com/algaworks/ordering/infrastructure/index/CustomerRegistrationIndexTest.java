@@ -0,0 +1,164 @@
+package com.algaworks.ordering.infrastructure.index;
+
+import com.algaworks.ordering.domain.valueobject.CustomerId;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomerRegistrationIndexTest {
+
+    private static final Instant MONDAY = Instant.parse("2026-10-12T00:00:00Z");
+
+    private final CustomerRegistrationIndex index = new CustomerRegistrationIndex();
+    private final Random random = new Random(42);
+
+    @Test
+    void given_generatedCustomerId_whenReadTimestamp_shouldBeRegistrationInstant() {
+        Instant before = Instant.now().minusMillis(1);
+
+        CustomerId customerId = new CustomerId();
+
+        assertThat(customerId.isTimeOrdered()).isTrue();
+        assertThat(customerId.timestamp()).isBetween(before, Instant.now().plusMillis(1));
+    }
+
+    @Test
+    void given_idsOfSeveralDays_whenQueryWindow_shouldReturnOnlyWindowInOrder() {
+        List<CustomerId> lastWeek = new ArrayList<>();
+        for (int day = 0; day < 14; day++) {
+            for (int i = 0; i < 10; i++) {
+                CustomerId customerId = TimeOrderedCustomerIds.at(MONDAY.plus(Duration.ofDays(day)).plusSeconds(i), random);
+                index.add(customerId);
+                if (day < 7) {
+                    lastWeek.add(customerId);
+                }
+            }
+        }
+
+        List<CustomerId> result = index.registeredBetween(MONDAY, MONDAY.plus(Duration.ofDays(7)));
+
+        assertThat(result).containsExactlyElementsOf(lastWeek);
+        assertThat(index.countRegisteredBetween(MONDAY, MONDAY.plus(Duration.ofDays(7)))).isEqualTo(70);
+    }
+
+    @Test
+    void given_idsAddedOutOfOrder_whenQuery_shouldReturnThemByRegistrationInstant() {
+        CustomerId later = TimeOrderedCustomerIds.at(MONDAY.plusSeconds(2), random);
+        CustomerId earlier = TimeOrderedCustomerIds.at(MONDAY.plusSeconds(1), random);
+        index.add(later);
+        index.add(earlier);
+
+        assertThat(index.registeredBetween(MONDAY, MONDAY.plusSeconds(3))).containsExactly(earlier, later);
+    }
+
+    @Test
+    void given_window_whenPaginate_shouldVisitEveryIdOnce() {
+        IntStream.range(0, 95).forEach(i -> index.add(TimeOrderedCustomerIds.at(MONDAY.plusMillis(i), random)));
+        Instant to = MONDAY.plusSeconds(1);
+
+        List<CustomerId> visited = new ArrayList<>();
+        CustomerIdPage page = index.page(MONDAY, to, 10);
+        visited.addAll(page.customerIds());
+        while (page.nextCursor().isPresent()) {
+            page = index.page(MONDAY, to, page.nextCursor().get(), 10);
+            visited.addAll(page.customerIds());
+        }
+
+        assertThat(visited).containsExactlyElementsOf(index.registeredBetween(MONDAY, to));
+        assertThat(visited).hasSize(95);
+        assertThat(page.customerIds()).hasSize(5);
+    }
+
+    @Test
+    void given_concurrentAppends_whenQuery_shouldContainAll() {
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int i = 0; i < 1_000; i++) {
+                executor.execute(() -> index.add(new CustomerId()));
+            }
+        }
+
+        assertThat(index.size()).isEqualTo(1_000);
+        assertThat(index.registeredBetween(Instant.EPOCH, Instant.now().plusSeconds(1))).hasSize(1_000);
+    }
+
+    @Test
+    void given_randomUuid_whenAdd_shouldGenerateException() {
+        CustomerId customerId = new CustomerId(UUID.randomUUID());
+
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> index.add(customerId));
+        Assertions.assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(customerId::timestamp);
+    }
+
+    @Test
+    void given_cursorOutsideNarrowedWindow_whenPaginate_shouldClampIt() {
+        IntStream.range(0, 30).forEach(i -> index.add(TimeOrderedCustomerIds.at(MONDAY.plusSeconds(i), random)));
+        List<CustomerId> all = index.registeredBetween(MONDAY, MONDAY.plusSeconds(30));
+        Instant from = MONDAY.plusSeconds(10);
+        Instant to = MONDAY.plusSeconds(20);
+
+        CustomerIdPage afterEarlyCursor = index.page(from, to, all.get(2), 5);
+        CustomerIdPage afterLateCursor = index.page(from, to, all.get(25), 5);
+
+        assertThat(afterEarlyCursor.customerIds()).containsExactlyElementsOf(all.subList(10, 15));
+        assertThat(afterEarlyCursor.nextCursor()).contains(all.get(14));
+        assertThat(afterLateCursor.customerIds()).isEmpty();
+        assertThat(afterLateCursor.nextCursor()).isEmpty();
+    }
+
+    @Test
+    void given_boundsWithinMillisecond_whenQuery_shouldRoundThemDown() {
+        CustomerId customerId = TimeOrderedCustomerIds.at(MONDAY.plusMillis(1), random);
+        index.add(customerId);
+
+        assertThat(index.registeredBetween(MONDAY.plusNanos(1_500_000), MONDAY.plusMillis(2))).containsExactly(customerId);
+        assertThat(index.registeredBetween(MONDAY, MONDAY.plusNanos(1_500_000))).isEmpty();
+    }
+
+    @Test
+    void given_boundsOutsideTimestampRange_whenQuery_shouldClampThem() {
+        Instant earliest = Instant.EPOCH;
+        Instant latest = Instant.ofEpochMilli((1L << 48) - 1);
+        CustomerId first = TimeOrderedCustomerIds.at(earliest, random);
+        CustomerId last = TimeOrderedCustomerIds.at(latest, random);
+        index.add(first);
+        index.add(last);
+
+        assertThat(index.registeredBetween(Instant.MIN, Instant.MAX)).containsExactly(first, last);
+        assertThat(index.registeredBetween(Instant.EPOCH.minusMillis(1), Instant.EPOCH.plusMillis(1))).containsExactly(first);
+        assertThat(index.registeredBetween(Instant.MIN, Instant.EPOCH)).isEmpty();
+        assertThat(index.registeredBetween(latest, latest.plusMillis(1))).containsExactly(last);
+        assertThat(index.registeredBetween(latest.plusMillis(1), Instant.MAX)).isEmpty();
+        assertThat(index.countRegisteredBetween(Instant.MAX, Instant.MAX)).isZero();
+        assertThat(index.page(Instant.MIN, Instant.MAX, first, 10).customerIds()).containsExactly(last);
+    }
+
+    @Test
+    void given_windowEndingBeforeStart_whenQuery_shouldGenerateException() {
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> index.registeredBetween(MONDAY.plusSeconds(1), MONDAY));
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> index.page(MONDAY, MONDAY.plusSeconds(1), 0));
+    }
+
+    @Test
+    void given_indexedId_whenRemove_shouldNoLongerBeReturned() {
+        CustomerId customerId = TimeOrderedCustomerIds.at(MONDAY, random);
+        index.add(customerId);
+
+        assertThat(index.remove(customerId)).isTrue();
+        assertThat(index.registeredBetween(MONDAY, MONDAY.plusSeconds(1))).isEmpty();
+    }
+}
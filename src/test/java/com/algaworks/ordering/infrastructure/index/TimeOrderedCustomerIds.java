@@ -0,0 +1,22 @@
+package com.algaworks.ordering.infrastructure.index;
+
+import com.algaworks.ordering.domain.valueobject.CustomerId;
+
+import java.time.Instant;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Builds UUIDv7 customer ids for arbitrary registration instants, laid out as RFC 9562
+ * describes: 48-bit millisecond timestamp, version 7, random bits and the IETF variant.
+ */
+class TimeOrderedCustomerIds {
+
+    private TimeOrderedCustomerIds() { }
+
+    static CustomerId at(Instant instant, Random random) {
+        long mostSignificantBits = (instant.toEpochMilli() << 16) | 0x7000L | random.nextInt(0x1000);
+        long leastSignificantBits = (random.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return new CustomerId(new UUID(mostSignificantBits, leastSignificantBits));
+    }
+}
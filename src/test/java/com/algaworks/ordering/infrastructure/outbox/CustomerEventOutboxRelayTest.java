@@ -0,0 +1,141 @@
+package com.algaworks.ordering.infrastructure.outbox;
+
+import com.algaworks.ordering.domain.entity.Customer;
+import com.algaworks.ordering.domain.event.CustomerArchivedEvent;
+import com.algaworks.ordering.domain.event.CustomerEmailChangedEvent;
+import com.algaworks.ordering.domain.event.CustomerEvent;
+import com.algaworks.ordering.domain.event.CustomerRegisteredEvent;
+import com.algaworks.ordering.domain.valueobject.CustomerId;
+import com.algaworks.ordering.domain.valueobject.Email;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.algaworks.ordering.domain.entity.CustomerTestDataBuilder.brandNewCustomer;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomerEventOutboxRelayTest {
+
+    private final CustomerEventOutbox outbox = new CustomerEventOutbox();
+    private final InMemoryCustomerEventBroker broker = new InMemoryCustomerEventBroker();
+    private final CustomerEventOutboxRelay relay = new CustomerEventOutboxRelay(
+            outbox, broker, 10, 3, Duration.ofSeconds(5), Duration.ofMillis(10), Clock.systemUTC());
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        relay.close();
+    }
+
+    @Test
+    void given_customerEvents_whenAppend_shouldMoveThemToOutbox() {
+        Customer customer = brandNewCustomer().build();
+        customer.changeEmail(new Email("john.doe@other.com"));
+
+        outbox.append(customer);
+
+        assertThat(customer.domainEvents()).isEmpty();
+        assertThat(outbox.pending()).isEqualTo(2);
+        assertThat(outbox.peek(10))
+                .extracting(OutboxEntry::event)
+                .hasExactlyElementsOfTypes(CustomerRegisteredEvent.class, CustomerEmailChangedEvent.class);
+    }
+
+    @Test
+    void given_eventsOfManyCustomers_whenRelay_shouldPublishAllKeepingCustomerOrder() throws InterruptedException {
+        List<Customer> customers = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Customer customer = brandNewCustomer().build();
+            customer.changeEmail(new Email("customer" + i + "@email.com"));
+            customers.add(customer);
+        }
+        customers.forEach(Customer::archive);
+        customers.forEach(outbox::append);
+
+        relay.start();
+        List<CustomerEvent> published = broker.awaitEvents(60, Duration.ofSeconds(5));
+
+        assertThat(published).hasSize(60);
+        for (Customer customer : customers) {
+            assertThat(eventsOf(customer.id(), published))
+                    .hasExactlyElementsOfTypes(CustomerRegisteredEvent.class, CustomerEmailChangedEvent.class, CustomerArchivedEvent.class);
+        }
+        awaitDrained();
+        assertThat(relay.metrics().publishedEvents()).isEqualTo(60);
+        assertThat(relay.metrics().pendingEvents()).isZero();
+        assertThat(relay.metrics().lag()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void given_unavailableBroker_whenRelay_shouldRetryUntilDelivered() throws InterruptedException {
+        broker.failNextPublications(3);
+        CustomerId customerId = new CustomerId();
+        outbox.append(List.of(new CustomerArchivedEvent(customerId)));
+
+        relay.start();
+        List<CustomerEvent> published = broker.awaitEvents(1, Duration.ofSeconds(5));
+
+        assertThat(published).hasSize(1);
+        assertThat(relay.metrics().failedAttempts()).isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    void given_publisherReturningNoFuture_whenRelay_shouldCountFailureAndKeepRelaying() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        CustomerEventOutboxRelay flakyRelay = new CustomerEventOutboxRelay(outbox,
+                events -> calls.incrementAndGet() <= 2 ? null : broker.publish(events),
+                10, 1, Duration.ofSeconds(5), Duration.ofMillis(10), Clock.systemUTC());
+        outbox.append(List.of(new CustomerArchivedEvent(new CustomerId())));
+
+        try {
+            flakyRelay.start();
+            List<CustomerEvent> published = broker.awaitEvents(1, Duration.ofSeconds(5));
+
+            assertThat(published).hasSize(1);
+            assertThat(flakyRelay.metrics().failedAttempts()).isGreaterThanOrEqualTo(2);
+        } finally {
+            flakyRelay.close();
+        }
+    }
+
+    @Test
+    void given_slowBroker_whenAttemptTimesOut_shouldNotOverlapRetryWithLateDelivery() throws InterruptedException {
+        CustomerEventOutboxRelay slowRelay = new CustomerEventOutboxRelay(
+                outbox, broker, 10, 1, Duration.ofMillis(50), Duration.ofMillis(10), Clock.systemUTC());
+        Customer customer = brandNewCustomer().build();
+        customer.changeEmail(new Email("john.doe@other.com"));
+        outbox.append(customer);
+        broker.delayNextPublication(Duration.ofMillis(300));
+
+        try {
+            slowRelay.start();
+            broker.awaitEvents(2, Duration.ofSeconds(5));
+            customer.archive();
+            outbox.append(customer);
+            List<CustomerEvent> published = broker.awaitEvents(3, Duration.ofSeconds(5));
+            Thread.sleep(100);
+
+            assertThat(broker.awaitEvents(3, Duration.ZERO))
+                    .isEqualTo(published)
+                    .hasExactlyElementsOfTypes(CustomerRegisteredEvent.class, CustomerEmailChangedEvent.class, CustomerArchivedEvent.class);
+            assertThat(slowRelay.metrics().timedOutAttempts()).isGreaterThanOrEqualTo(1);
+        } finally {
+            slowRelay.close();
+        }
+    }
+
+    private static List<CustomerEvent> eventsOf(CustomerId customerId, List<CustomerEvent> events) {
+        return events.stream().filter(event -> event.customerId().equals(customerId)).toList();
+    }
+
+    private void awaitDrained() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (outbox.pending() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.algaworks.ordering.infrastructure.outbox;
+
+import com.algaworks.ordering.domain.event.CustomerEvent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class InMemoryCustomerEventBroker implements CustomerEventPublisher {
+
+    private final List<CustomerEvent> received = new ArrayList<>();
+    private final AtomicInteger failuresToSimulate = new AtomicInteger();
+    private final AtomicReference<Duration> nextPublicationDelay = new AtomicReference<>();
+
+    public void failNextPublications(int publications) {
+        failuresToSimulate.set(publications);
+    }
+
+    public void delayNextPublication(Duration delay) {
+        nextPublicationDelay.set(delay);
+    }
+
+    @Override
+    public CompletableFuture<Void> publish(List<CustomerEvent> events) {
+        if (failuresToSimulate.getAndUpdate(failures -> Math.max(0, failures - 1)) > 0) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Broker unavailable"));
+        }
+
+        Duration delay = nextPublicationDelay.getAndSet(null);
+        Runnable delivery = () -> {
+            synchronized (received) {
+                received.addAll(events);
+                received.notifyAll();
+            }
+        };
+
+        return delay == null
+                ? CompletableFuture.runAsync(delivery)
+                : CompletableFuture.runAsync(delivery, CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    public List<CustomerEvent> awaitEvents(int count, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (received) {
+            while (received.size() < count) {
+                long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+                if (remainingMillis <= 0) {
+                    break;
+                }
+                received.wait(remainingMillis);
+            }
+            return List.copyOf(received);
+        }
+    }
+}
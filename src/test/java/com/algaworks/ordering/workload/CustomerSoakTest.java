@@ -0,0 +1,44 @@
+package com.algaworks.ordering.workload;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency soak of the customer domain. Excluded from {@code test}; run it with
+ * {@code ./gradlew soakTest} and tune it with {@code -Dsoak.*} properties, e.g.
+ * {@code -Dsoak.customers=1000000 -Dsoak.operations=10000000 -Dsoak.maxP99Micros=500}.
+ */
+@Tag("soak")
+class CustomerSoakTest {
+
+    private final long seed = Long.getLong("soak.seed", 42);
+    private final int customers = Integer.getInteger("soak.customers", 100_000);
+    private final long operations = Long.getLong("soak.operations", 1_000_000);
+    private final int concurrency = Integer.getInteger("soak.concurrency", 256);
+    private final Path reportDir = Path.of(System.getProperty("soak.reportDir", "build/reports/soak"));
+
+    @Test
+    void customerDomainSoak() throws IOException {
+        SyntheticWorkloadGenerator generator = new SyntheticWorkloadGenerator(seed);
+        SoakTestRunner runner = new SoakTestRunner(new DomainWorkloadTarget(generator), concurrency);
+
+        SoakReport population = runner.run("customer-domain-population", seed, generator.registrations(customers));
+        population.writeTo(reportDir);
+
+        SoakReport mixed = runner.run("customer-domain-mixed", seed, generator.operations(operations, customers, OperationMix.DEFAULT));
+        mixed.writeTo(reportDir);
+
+        assertThat(mixed.failedOperations()).isZero();
+        if (System.getProperty("soak.maxP99Micros") != null) {
+            assertThat(mixed.percentileMicros(99)).isLessThanOrEqualTo(Double.parseDouble(System.getProperty("soak.maxP99Micros")));
+        }
+        if (System.getProperty("soak.minThroughput") != null) {
+            assertThat(mixed.throughput()).isGreaterThanOrEqualTo(Double.parseDouble(System.getProperty("soak.minThroughput")));
+        }
+    }
+}
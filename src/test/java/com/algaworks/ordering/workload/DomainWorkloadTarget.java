@@ -0,0 +1,52 @@
+package com.algaworks.ordering.workload;
+
+import com.algaworks.ordering.domain.entity.Customer;
+import com.algaworks.ordering.workload.WorkloadOperation.*;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Drives the {@link Customer} aggregate in-process, keeping registered customers by slot.
+ * Operations on the same customer are serialized, as a repository would do.
+ */
+public class DomainWorkloadTarget implements WorkloadTarget {
+
+    private final SyntheticWorkloadGenerator generator;
+    private final Map<Integer, Customer> customers = new ConcurrentHashMap<>();
+
+    public DomainWorkloadTarget(SyntheticWorkloadGenerator generator) {
+        this.generator = generator;
+    }
+
+    @Override
+    public void execute(WorkloadOperation operation) {
+        if (operation instanceof Register register) {
+            Customer customer = generator.customer(register.slot()).build();
+            customer.clearDomainEvents();
+            customers.put(register.slot(), customer);
+            return;
+        }
+
+        Customer customer = customers.get(operation.slot());
+        if (customer == null) {
+            throw new IllegalStateException("Slot " + operation.slot() + " was not registered");
+        }
+
+        synchronized (customer) {
+            switch (operation) {
+                case ChangeEmail change -> customer.changeEmail(change.email());
+                case ChangePhone change -> customer.changePhone(change.phone());
+                case ChangeAddress change -> customer.changeAddress(change.address());
+                case AddLoyaltyPoints credit -> customer.addLoyaltyPoints(credit.points());
+                case Archive archive -> customer.archive();
+                case Register register -> throw new IllegalStateException();
+            }
+            customer.clearDomainEvents();
+        }
+    }
+
+    public int registeredCustomers() {
+        return customers.size();
+    }
+}
@@ -0,0 +1,37 @@
+package com.algaworks.ordering.workload;
+
+/**
+ * Relative weights of each operation kind in a generated stream.
+ */
+public record OperationMix(
+        double register,
+        double changeEmail,
+        double changePhone,
+        double changeAddress,
+        double addLoyaltyPoints,
+        double archive
+) {
+
+    public static final OperationMix DEFAULT = new OperationMix(10, 5, 5, 5, 74.5, 0.5);
+
+    public OperationMix {
+        if (register < 0 || changeEmail < 0 || changePhone < 0 || changeAddress < 0 || addLoyaltyPoints < 0 || archive < 0) {
+            throw new IllegalArgumentException();
+        }
+        if (total(register, changeEmail, changePhone, changeAddress, addLoyaltyPoints, archive) <= 0) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    double total() {
+        return total(register, changeEmail, changePhone, changeAddress, addLoyaltyPoints, archive);
+    }
+
+    private static double total(double... weights) {
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        return total;
+    }
+}
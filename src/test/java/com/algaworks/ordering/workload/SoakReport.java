@@ -0,0 +1,83 @@
+package com.algaworks.ordering.workload;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Outcome of a soak run. Latencies are recorded in nanoseconds and reported in
+ * microseconds; the run parameters are written with them so the run can be repeated.
+ * A repeated run reproduces the operation, rejected and failed counts; latencies,
+ * elapsed time and throughput depend on the machine and vary between runs.
+ */
+public record SoakReport(
+        String name,
+        long seed,
+        int concurrency,
+        Duration elapsed,
+        Map<String, Histogram> latencies,
+        long rejectedOperations,
+        long failedOperations
+) {
+
+    private static final double NANOS_PER_MICRO = 1_000.0;
+
+    public long totalOperations() {
+        return latencies.values().stream().mapToLong(Histogram::getTotalCount).sum();
+    }
+
+    public double throughput() {
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+        return seconds > 0 ? totalOperations() / seconds : 0;
+    }
+
+    public Histogram overall() {
+        Histogram overall = new Histogram(3);
+        latencies.values().forEach(overall::add);
+        return overall;
+    }
+
+    public double percentileMicros(double percentile) {
+        return overall().getValueAtPercentile(percentile) / NANOS_PER_MICRO;
+    }
+
+    public Path writeTo(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path report = directory.resolve(name + ".txt");
+
+        try (PrintStream out = new PrintStream(Files.newOutputStream(report), false, StandardCharsets.UTF_8)) {
+            out.printf(Locale.ROOT, "name=%s%nseed=%d%nconcurrency=%d%njava=%s%n",
+                    name, seed, concurrency, System.getProperty("java.version"));
+            out.printf(Locale.ROOT, "operations=%d%nrejected=%d%nfailed=%d%nelapsedMillis=%d%nthroughputPerSecond=%.1f%n%n",
+                    totalOperations(), rejectedOperations, failedOperations, elapsed.toMillis(), throughput());
+
+            out.printf(Locale.ROOT, "%-18s %10s %10s %10s %10s %10s %10s%n",
+                    "operation", "count", "p50(us)", "p90(us)", "p99(us)", "p99.9(us)", "max(us)");
+            Map<String, Histogram> byName = new TreeMap<>(latencies);
+            byName.put("Overall", overall());
+            byName.forEach((operation, histogram) -> out.printf(Locale.ROOT, "%-18s %10d %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+                    operation,
+                    histogram.getTotalCount(),
+                    histogram.getValueAtPercentile(50) / NANOS_PER_MICRO,
+                    histogram.getValueAtPercentile(90) / NANOS_PER_MICRO,
+                    histogram.getValueAtPercentile(99) / NANOS_PER_MICRO,
+                    histogram.getValueAtPercentile(99.9) / NANOS_PER_MICRO,
+                    histogram.getMaxValue() / NANOS_PER_MICRO));
+
+            byName.forEach((operation, histogram) -> {
+                out.printf("%n# %s%n", operation);
+                histogram.outputPercentileDistribution(out, NANOS_PER_MICRO);
+            });
+        }
+
+        return report;
+    }
+}
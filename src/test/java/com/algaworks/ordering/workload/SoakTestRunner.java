@@ -0,0 +1,121 @@
+package com.algaworks.ordering.workload;
+
+import com.algaworks.ordering.domain.exception.DomainException;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Replays an operation stream against a {@link WorkloadTarget} on {@code concurrency}
+ * virtual-thread lanes and records the latency of every operation in one HdrHistogram
+ * per operation kind.
+ * <p>
+ * An operation's latency runs from the moment it is submitted to its lane until it
+ * completes, so time spent queued behind a slow operation is reported instead of being
+ * omitted. Operations on the same slot always share a lane and run in stream order, which
+ * makes the rejected and failed counts a function of the seed alone; latencies, elapsed
+ * time and throughput vary between runs.
+ * <p>
+ * Domain rejections (e.g. changing an archived customer) are expected in a realistic
+ * mix and counted separately from unexpected failures.
+ */
+public class SoakTestRunner {
+
+    private static final long HIGHEST_TRACKABLE_LATENCY = TimeUnit.MINUTES.toNanos(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final int LANE_CAPACITY = 64;
+
+    private static final Submission END_OF_STREAM = new Submission(null, 0);
+
+    private final WorkloadTarget target;
+    private final int concurrency;
+
+    public SoakTestRunner(WorkloadTarget target, int concurrency) {
+        this.target = Objects.requireNonNull(target);
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.concurrency = concurrency;
+    }
+
+    public SoakReport run(String name, long seed, Stream<WorkloadOperation> operations) {
+        Map<String, Histogram> latencies = new ConcurrentHashMap<>();
+        LongAdder rejected = new LongAdder();
+        LongAdder failed = new LongAdder();
+
+        List<BlockingQueue<Submission>> lanes = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            lanes.add(new ArrayBlockingQueue<>(LANE_CAPACITY));
+        }
+
+        long startedAt = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             operations) {
+            lanes.forEach(lane -> executor.execute(() -> drain(lane, latencies, rejected, failed)));
+            try {
+                operations.forEach(operation -> put(
+                        lanes.get(Math.floorMod(operation.slot(), concurrency)),
+                        new Submission(operation, System.nanoTime())));
+            } finally {
+                lanes.forEach(lane -> put(lane, END_OF_STREAM));
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        return new SoakReport(name, seed, concurrency, elapsed, Map.copyOf(latencies), rejected.sum(), failed.sum());
+    }
+
+    private void drain(BlockingQueue<Submission> lane, Map<String, Histogram> latencies,
+                       LongAdder rejected, LongAdder failed) {
+        for (Submission submission = take(lane); submission != END_OF_STREAM; submission = take(lane)) {
+            WorkloadOperation operation = submission.operation();
+            try {
+                target.execute(operation);
+            } catch (DomainException | IllegalArgumentException e) {
+                rejected.increment();
+            } catch (RuntimeException e) {
+                failed.increment();
+            } finally {
+                latencies.computeIfAbsent(operation.name(), kind -> newHistogram())
+                        .recordValue(Math.min(System.nanoTime() - submission.submittedAt(), HIGHEST_TRACKABLE_LATENCY));
+            }
+        }
+    }
+
+    private static void put(BlockingQueue<Submission> lane, Submission submission) {
+        try {
+            lane.put(submission);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Submission take(BlockingQueue<Submission> lane) {
+        try {
+            return lane.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return END_OF_STREAM;
+        }
+    }
+
+    private static Histogram newHistogram() {
+        return new ConcurrentHistogram(HIGHEST_TRACKABLE_LATENCY, SIGNIFICANT_DIGITS);
+    }
+
+    private record Submission(WorkloadOperation operation, long submittedAt) { }
+}
@@ -0,0 +1,87 @@
+package com.algaworks.ordering.workload;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SoakTestRunnerTest {
+
+    @Test
+    void given_smallWorkload_whenRun_shouldRecordEveryOperationAndWriteReport(@TempDir Path reports) throws IOException {
+        SyntheticWorkloadGenerator generator = new SyntheticWorkloadGenerator(42);
+        DomainWorkloadTarget target = new DomainWorkloadTarget(generator);
+        SoakTestRunner runner = new SoakTestRunner(target, 16);
+
+        SoakReport population = runner.run("population", generator.seed(), generator.registrations(500));
+        SoakReport mixed = runner.run("mixed", generator.seed(), generator.operations(5_000, 500, OperationMix.DEFAULT));
+
+        assertThat(population.totalOperations()).isEqualTo(500);
+        assertThat(mixed.totalOperations()).isEqualTo(5_000);
+        assertThat(mixed.failedOperations()).isZero();
+        assertThat(target.registeredCustomers()).isGreaterThan(500);
+
+        Path report = mixed.writeTo(reports);
+        assertThat(Files.readString(report)).contains("seed=42", "AddLoyaltyPoints", "Overall");
+    }
+
+    @Test
+    void given_failingTarget_whenRun_shouldCountFailures() {
+        SoakTestRunner runner = new SoakTestRunner(operation -> {
+            throw new IllegalStateException();
+        }, 4);
+
+        SoakReport report = runner.run("failing", 0, Stream.of(new WorkloadOperation.Archive(0)));
+
+        assertThat(report.failedOperations()).isEqualTo(1);
+    }
+
+    @Test
+    void given_sameSeed_whenRunTwice_shouldRejectSameOperations() {
+        long firstRejected = rejectedOperationsOfMixedRun(7);
+        long secondRejected = rejectedOperationsOfMixedRun(7);
+
+        assertThat(firstRejected).isPositive();
+        assertThat(secondRejected).isEqualTo(firstRejected);
+    }
+
+    @Test
+    void given_slowOperation_whenOthersQueueBehindIt_shouldRecordTheirWait() {
+        long pause = TimeUnit.MILLISECONDS.toNanos(50);
+        SoakTestRunner runner = new SoakTestRunner(operation -> {
+            if (operation instanceof WorkloadOperation.Archive) {
+                sleep(Duration.ofNanos(pause));
+            }
+        }, 1);
+
+        SoakReport report = runner.run("queued", 0, Stream.concat(
+                Stream.of(new WorkloadOperation.Archive(0)),
+                IntStream.rangeClosed(1, 10).mapToObj(WorkloadOperation.Register::new)));
+
+        assertThat(report.latencies().get("Register").getMinValue()).isGreaterThanOrEqualTo(pause);
+    }
+
+    private static long rejectedOperationsOfMixedRun(long seed) {
+        SyntheticWorkloadGenerator generator = new SyntheticWorkloadGenerator(seed);
+        SoakTestRunner runner = new SoakTestRunner(new DomainWorkloadTarget(generator), 16);
+
+        runner.run("population", seed, generator.registrations(200));
+        return runner.run("mixed", seed, generator.operations(20_000, 200, OperationMix.DEFAULT)).rejectedOperations();
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.algaworks.ordering.workload;
+
+import com.algaworks.ordering.domain.entity.Customer;
+import com.algaworks.ordering.domain.valueobject.*;
+import com.algaworks.ordering.workload.WorkloadOperation.*;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Seeded generator of synthetic customers and operation streams.
+ * <p>
+ * Customer data is a pure function of the seed and the slot, so any slot can be
+ * rebuilt without generating the ones before it and populations of millions can be
+ * streamed without being held in memory. Names and zip codes follow Zipfian
+ * distributions and email domains follow a fixed market-share table.
+ */
+public class SyntheticWorkloadGenerator {
+
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda",
+            "William", "Elizabeth", "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica",
+            "Thomas", "Sarah", "Charles", "Karen", "Daniel", "Nancy", "Matthew", "Lisa"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis",
+            "Rodriguez", "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas",
+            "Taylor", "Moore", "Jackson", "Martin", "Lee", "Perez", "Thompson", "White"
+    };
+
+    private static final String[] EMAIL_DOMAINS = {
+            "gmail.com", "yahoo.com", "outlook.com", "hotmail.com", "icloud.com", "aol.com"
+    };
+
+    private static final double[] EMAIL_DOMAIN_SHARES = {0.42, 0.12, 0.11, 0.09, 0.07, 0.04};
+
+    private static final int CORPORATE_DOMAINS = 500;
+
+    private static final String[][] CITIES = {
+            {"New York", "NY"}, {"Los Angeles", "CA"}, {"Chicago", "IL"}, {"Houston", "TX"},
+            {"Phoenix", "AZ"}, {"Philadelphia", "PA"}, {"San Antonio", "TX"}, {"San Diego", "CA"},
+            {"Dallas", "TX"}, {"Austin", "TX"}, {"Jacksonville", "FL"}, {"Columbus", "OH"}
+    };
+
+    private static final String[] STREETS = {
+            "Main Street", "Oak Avenue", "Maple Drive", "Cedar Lane", "Park Road", "Pine Street",
+            "Elm Street", "Washington Avenue", "Lake Shore Drive", "Hill Road"
+    };
+
+    private static final int ZIP_CODES = 5_000;
+
+    private static final LocalDate OLDEST_BIRTH_DATE = LocalDate.of(1940, 1, 1);
+    private static final int BIRTH_DATE_RANGE_DAYS = 24_000;
+
+    private final long seed;
+    private final ZipfianGenerator firstNames = new ZipfianGenerator(FIRST_NAMES.length, 0.8, 0);
+    private final ZipfianGenerator lastNames = new ZipfianGenerator(LAST_NAMES.length, 0.8, 0);
+    private final ZipfianGenerator cities = new ZipfianGenerator(CITIES.length, 1.0, 0);
+    private final ZipfianGenerator zipCodes = new ZipfianGenerator(ZIP_CODES, 1.1, 0);
+
+    public SyntheticWorkloadGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    public Customer.BrandNewCustomerBuild customer(int slot) {
+        Random random = randomFor(slot);
+        String firstName = FIRST_NAMES[firstNames.next(random)];
+        String lastName = LAST_NAMES[lastNames.next(random)];
+
+        return Customer.brandNew()
+                .fullName(new FullName(firstName, lastName))
+                .birthDate(new BirthDate(OLDEST_BIRTH_DATE.plusDays(random.nextInt(BIRTH_DATE_RANGE_DAYS))))
+                .email(email(random, firstName, lastName, slot, 0))
+                .phone(phone(random))
+                .document(new Document(String.format("%03d-%02d-%04d",
+                        random.nextInt(1000), random.nextInt(100), random.nextInt(10_000))))
+                .promotionNotificationsAllowed(random.nextBoolean())
+                .address(address(random));
+    }
+
+    /**
+     * Registrations for slots {@code [0, population)}, in slot order.
+     */
+    public Stream<WorkloadOperation> registrations(int population) {
+        return IntStream.range(0, population).mapToObj(Register::new);
+    }
+
+    /**
+     * A stream of {@code count} operations over an already registered population.
+     * Changes target existing slots with Zipfian popularity; registrations take new
+     * slots starting at {@code population}.
+     */
+    public Stream<WorkloadOperation> operations(long count, int population, OperationMix mix) {
+        if (count < 0 || population <= 0) {
+            throw new IllegalArgumentException();
+        }
+
+        Iterator<WorkloadOperation> iterator = new OperationIterator(count, population, mix);
+        return StreamSupport.stream(
+                Spliterators.spliterator(iterator, count, Spliterator.ORDERED | Spliterator.NONNULL),
+                false);
+    }
+
+    /**
+     * {@link Random} scrambles its seed only linearly, so streams seeded with neighbouring
+     * values start almost in step. Both the seed and the stream go through the SplitMix64
+     * finalizer first, which makes the streams of consecutive slots independent.
+     */
+    private Random randomFor(long stream) {
+        return new Random(mix64(seed + mix64(stream)));
+    }
+
+    private static long mix64(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    private Email email(Random random, String firstName, String lastName, int slot, long version) {
+        String domain = emailDomain(random);
+        String localPart = (firstName + "." + lastName).toLowerCase(Locale.ROOT) + slot;
+        if (version > 0) {
+            localPart += "." + version;
+        }
+        return new Email(localPart + "@" + domain);
+    }
+
+    private String emailDomain(Random random) {
+        double share = random.nextDouble();
+        for (int i = 0; i < EMAIL_DOMAINS.length; i++) {
+            share -= EMAIL_DOMAIN_SHARES[i];
+            if (share < 0) {
+                return EMAIL_DOMAINS[i];
+            }
+        }
+        return "corp" + random.nextInt(CORPORATE_DOMAINS) + ".com";
+    }
+
+    private Phone phone(Random random) {
+        return new Phone(String.format("%03d-%03d-%04d",
+                200 + random.nextInt(800), random.nextInt(1000), random.nextInt(10_000)));
+    }
+
+    private Address address(Random random) {
+        String[] city = CITIES[cities.next(random)];
+        return Address.builder()
+                .street(STREETS[random.nextInt(STREETS.length)])
+                .number(String.valueOf(1 + random.nextInt(9_999)))
+                .complement(random.nextInt(4) == 0 ? "Apt. " + (1 + random.nextInt(500)) : null)
+                .neighborhood("District " + (1 + random.nextInt(40)))
+                .city(city[0])
+                .state(city[1])
+                .zipCode(new ZipCode(String.format("%05d", 10_000 + zipCodes.next(random) * 17)))
+                .build();
+    }
+
+    private class OperationIterator implements Iterator<WorkloadOperation> {
+
+        private final long count;
+        private final OperationMix mix;
+        private final ZipfianGenerator popularity;
+        private final Random random;
+        private int nextSlot;
+        private long emitted;
+
+        OperationIterator(long count, int population, OperationMix mix) {
+            this.count = count;
+            this.mix = mix;
+            this.popularity = new ZipfianGenerator(population, 0.99, 0);
+            this.random = randomFor(-1L - population);
+            this.nextSlot = population;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return emitted < count;
+        }
+
+        @Override
+        public WorkloadOperation next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            emitted++;
+
+            double pick = random.nextDouble() * mix.total();
+            if ((pick -= mix.register()) < 0) {
+                return new Register(nextSlot++);
+            }
+
+            int slot = popularity.next(random);
+            if ((pick -= mix.changeEmail()) < 0) {
+                return new ChangeEmail(slot, email(random, "customer", "changed", slot, emitted));
+            }
+            if ((pick -= mix.changePhone()) < 0) {
+                return new ChangePhone(slot, phone(random));
+            }
+            if ((pick -= mix.changeAddress()) < 0) {
+                return new ChangeAddress(slot, address(random));
+            }
+            if ((pick -= mix.addLoyaltyPoints()) < 0) {
+                return new AddLoyaltyPoints(slot, new LoyaltyPoints(1 + random.nextInt(500)));
+            }
+            return new Archive(slot);
+        }
+    }
+}
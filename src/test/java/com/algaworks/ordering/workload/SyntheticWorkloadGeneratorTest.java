@@ -0,0 +1,94 @@
+package com.algaworks.ordering.workload;
+
+import com.algaworks.ordering.domain.entity.Customer;
+import org.junit.jupiter.api.Test;
+
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SyntheticWorkloadGeneratorTest {
+
+    @Test
+    void given_sameSeed_whenGenerate_shouldProduceSameCustomersAndOperations() {
+        SyntheticWorkloadGenerator first = new SyntheticWorkloadGenerator(7);
+        SyntheticWorkloadGenerator second = new SyntheticWorkloadGenerator(7);
+
+        assertThat(first.customer(123).build().email()).isEqualTo(second.customer(123).build().email());
+        assertThat(first.operations(1_000, 100, OperationMix.DEFAULT).toList())
+                .isEqualTo(second.operations(1_000, 100, OperationMix.DEFAULT).toList());
+    }
+
+    @Test
+    void given_differentSeeds_whenGenerate_shouldProduceDifferentCustomers() {
+        Customer first = new SyntheticWorkloadGenerator(1).customer(0).build();
+        Customer second = new SyntheticWorkloadGenerator(2).customer(0).build();
+
+        assertThat(first.phone()).isNotEqualTo(second.phone());
+    }
+
+    @Test
+    void given_population_whenGenerateCustomers_shouldSkewEmailDomains() {
+        SyntheticWorkloadGenerator generator = new SyntheticWorkloadGenerator(42);
+
+        Map<String, Long> domains = IntStream.range(0, 5_000)
+                .mapToObj(slot -> generator.customer(slot).build().email().value())
+                .map(email -> email.substring(email.indexOf('@') + 1))
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        assertThat(domains.get("gmail.com")).isBetween(1_900L, 2_300L);
+        assertThat(domains).hasSizeGreaterThan(100);
+    }
+
+    @Test
+    void given_consecutiveSlots_whenGenerateCustomers_shouldNotCorrelateThem() {
+        SyntheticWorkloadGenerator generator = new SyntheticWorkloadGenerator(42);
+        List<Customer> customers = IntStream.range(0, 10_000)
+                .mapToObj(slot -> generator.customer(slot).build())
+                .toList();
+
+        Map<String, Long> firstNames = customers.stream()
+                .collect(Collectors.groupingBy(customer -> customer.fullName().firstName(), Collectors.counting()));
+        double expectedSameFirstName = (customers.size() - 1) * firstNames.values().stream()
+                .mapToDouble(count -> Math.pow(count / (double) customers.size(), 2))
+                .sum();
+
+        long sameFirstName = 0;
+        long closeBirthDates = 0;
+        for (int slot = 1; slot < customers.size(); slot++) {
+            Customer previous = customers.get(slot - 1);
+            Customer current = customers.get(slot);
+            if (previous.fullName().firstName().equals(current.fullName().firstName())) {
+                sameFirstName++;
+            }
+            if (Math.abs(ChronoUnit.DAYS.between(previous.birthDate().value(), current.birthDate().value())) < 240) {
+                closeBirthDates++;
+            }
+        }
+
+        assertThat((double) sameFirstName).isLessThan(1.5 * expectedSameFirstName);
+        assertThat(closeBirthDates).isBetween(120L, 280L);
+    }
+
+    @Test
+    void given_operationMix_whenGenerate_shouldTargetRegisteredSlotsAndAppendNewOnes() {
+        List<WorkloadOperation> operations = new SyntheticWorkloadGenerator(42)
+                .operations(10_000, 1_000, OperationMix.DEFAULT)
+                .toList();
+
+        assertThat(operations).hasSize(10_000);
+        assertThat(operations)
+                .filteredOn(operation -> !(operation instanceof WorkloadOperation.Register))
+                .allMatch(operation -> operation.slot() < 1_000);
+        assertThat(operations)
+                .filteredOn(WorkloadOperation.Register.class::isInstance)
+                .extracting(WorkloadOperation::slot)
+                .isSorted()
+                .allMatch(slot -> slot >= 1_000);
+    }
+}
@@ -0,0 +1,31 @@
+package com.algaworks.ordering.workload;
+
+import com.algaworks.ordering.domain.valueobject.Address;
+import com.algaworks.ordering.domain.valueobject.Email;
+import com.algaworks.ordering.domain.valueobject.LoyaltyPoints;
+import com.algaworks.ordering.domain.valueobject.Phone;
+
+/**
+ * One step of a synthetic workload. Every operation targets the customer registered
+ * in {@code slot}; the generator derives that customer's data from the slot alone.
+ */
+public sealed interface WorkloadOperation {
+
+    int slot();
+
+    default String name() {
+        return getClass().getSimpleName();
+    }
+
+    record Register(int slot) implements WorkloadOperation { }
+
+    record ChangeEmail(int slot, Email email) implements WorkloadOperation { }
+
+    record ChangePhone(int slot, Phone phone) implements WorkloadOperation { }
+
+    record ChangeAddress(int slot, Address address) implements WorkloadOperation { }
+
+    record AddLoyaltyPoints(int slot, LoyaltyPoints points) implements WorkloadOperation { }
+
+    record Archive(int slot) implements WorkloadOperation { }
+}
@@ -0,0 +1,11 @@
+package com.algaworks.ordering.workload;
+
+/**
+ * System under test of a soak run. Implementations may drive the domain in-process
+ * or forward operations to a running instance of the service.
+ */
+@FunctionalInterface
+public interface WorkloadTarget {
+
+    void execute(WorkloadOperation operation);
+}
@@ -0,0 +1,42 @@
+package com.algaworks.ordering.workload;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Draws ranks in {@code [0, items)} where rank {@code k} has probability proportional to
+ * {@code 1 / (k + 1)^exponent}. The same seed always yields the same sequence; callers
+ * may also draw from their own {@link Random} to share the distribution table.
+ */
+public class ZipfianGenerator {
+
+    private final double[] cumulativeProbabilities;
+    private final Random random;
+
+    public ZipfianGenerator(int items, double exponent, long seed) {
+        if (items <= 0 || exponent <= 0) {
+            throw new IllegalArgumentException();
+        }
+
+        this.cumulativeProbabilities = new double[items];
+        double total = 0;
+        for (int rank = 0; rank < items; rank++) {
+            total += 1 / Math.pow(rank + 1, exponent);
+            cumulativeProbabilities[rank] = total;
+        }
+        for (int rank = 0; rank < items; rank++) {
+            cumulativeProbabilities[rank] /= total;
+        }
+        this.random = new Random(seed);
+    }
+
+    public int next() {
+        return next(random);
+    }
+
+    public int next(Random random) {
+        int index = Arrays.binarySearch(cumulativeProbabilities, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulativeProbabilities.length - 1);
+    }
+}